@@ -0,0 +1,68 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.Jackson;
+import top.senseiliu.jackson.JacksonAccelerators;
+
+/**
+ * bean 序列化加速对比
+ * <p>
+ * 加速方式只能在 Jackson 初始化时通过系统属性指定，每组参数都在新的 JVM 中运行，
+ * 因此不能使用 -f 0
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AcceleratorBenchmark {
+    @Param({"none", "afterburner", "blackbird"})
+    private String accelerator;
+
+    @Param({"SMALL", "MEDIUM"})
+    private Payload payload;
+
+    private String json;
+    private Payload.Order order;
+    private Map<?, ?> map;
+
+    @Setup
+    public void setup() {
+        // 必须在 Jackson 初始化之前设置
+        System.setProperty(JacksonAccelerators.PROPERTY, accelerator);
+        json = payload.json();
+        order = payload.order();
+        map = Jackson.parseJavaObject(json, Map.class);
+    }
+
+    @Benchmark
+    public String write() {
+        return Jackson.objectToString(order);
+    }
+
+    @Benchmark
+    public Payload.Order read() {
+        return Jackson.parseJavaObject(json, Payload.Order.class);
+    }
+
+    @Benchmark
+    public Payload.Order convert() {
+        return Jackson.convert(map, Payload.Order.class);
+    }
+}
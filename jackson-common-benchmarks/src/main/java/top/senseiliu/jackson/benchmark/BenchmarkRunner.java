@@ -0,0 +1,34 @@
+package top.senseiliu.jackson.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * 压测入口，参数与 JMH 命令行一致
+ * <p>
+ * 默认输出 JSON 格式的结果到 jmh-result.json，可以通过 -rf、-rff 修改，例如：
+ * <pre>
+ * java -jar jackson-common-benchmarks/target/benchmarks.jar JacksonBenchmark -p payload=SMALL -rff small.json
+ * </pre>
+ *
+ * @author liuguanliang
+ */
+public class BenchmarkRunner {
+    public static final String RESULT_FILE = "jmh-result.json";
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        OptionsBuilder builder = new OptionsBuilder();
+        if (!commandLine.getResultFormat().hasValue()) {
+            builder.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            builder.result(RESULT_FILE);
+        }
+        Options options = builder.parent(commandLine).build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,95 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.Jackson;
+import top.senseiliu.jackson.JacksonArray;
+import top.senseiliu.jackson.JacksonObject;
+
+/**
+ * 节点树绑定为 java 对象
+ * <p>
+ * toList、getObject 通过缓存的 ObjectReader 直接遍历节点树；legacy* 为原先的 convertValue，
+ * 先把节点写入 TokenBuffer 再读出来
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BindingBenchmark {
+    private static final TypeReference<List<Payload.Item>> ITEMS = new TypeReference<List<Payload.Item>>() {
+    };
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private JacksonArray items;
+    private JacksonObject item;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() {
+        List<Payload.Item> list = new ArrayList<>(size);
+        List<Payload.Item> source = Payload.LARGE.order().getItems();
+        for (int i = 0; i < size; i++) {
+            list.add(source.get(i % source.size()));
+        }
+        items = Jackson.parseArray(Jackson.objectToString(list));
+        item = new JacksonObject().put("item", list.get(0));
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public List<Payload.Item> toList() {
+        return items.toList(Payload.Item.class);
+    }
+
+    @Benchmark
+    public List<Payload.Item> toJava() {
+        return items.toJava(ITEMS);
+    }
+
+    @Benchmark
+    public List<Payload.Item> legacyToList() {
+        List<Payload.Item> list = new ArrayList<>(items.size());
+        for (JsonNode node : items) {
+            list.add(objectMapper.convertValue(node, Payload.Item.class));
+        }
+        return list;
+    }
+
+    @Benchmark
+    public List<Payload.Item> legacyToJava() {
+        return objectMapper.convertValue(items.getArrayNode(), ITEMS);
+    }
+
+    @Benchmark
+    public Payload.Item getObject() {
+        return item.getObject("item", Payload.Item.class);
+    }
+
+    @Benchmark
+    public Payload.Item legacyGetObject() {
+        return objectMapper.convertValue(item.getNode("item"), Payload.Item.class);
+    }
+}
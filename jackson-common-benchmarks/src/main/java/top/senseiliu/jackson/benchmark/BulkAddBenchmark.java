@@ -0,0 +1,83 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.JacksonArray;
+
+/**
+ * 批量添加元素
+ * <p>
+ * addAll 整体转换一次；legacy* 为原先的实现，每个元素调用一次 convertValue，再收集到临时 List
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BulkAddBenchmark {
+    @Param({"100", "10000"})
+    private int size;
+
+    private List<Payload.Item> items;
+    private List<Long> ids;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        ids = new ArrayList<>(size);
+        List<Payload.Item> source = Payload.LARGE.order().getItems();
+        for (int i = 0; i < size; i++) {
+            Payload.Item item = source.get(i % source.size());
+            items.add(item);
+            ids.add(item.getSkuId());
+        }
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public JacksonArray addAllBeans() {
+        return new JacksonArray().addAll(items);
+    }
+
+    @Benchmark
+    public ArrayNode legacyAddAllBeans() {
+        return legacyAddAll(items);
+    }
+
+    @Benchmark
+    public JacksonArray addAllIds() {
+        return new JacksonArray().addAll(ids);
+    }
+
+    @Benchmark
+    public ArrayNode legacyAddAllIds() {
+        return legacyAddAll(ids);
+    }
+
+    private ArrayNode legacyAddAll(List<?> objects) {
+        List<JsonNode> collect = objects.stream().map(v -> objectMapper.convertValue(v, JsonNode.class))
+                .collect(Collectors.toList());
+        return objectMapper.createArrayNode().addAll(collect);
+    }
+}
@@ -0,0 +1,72 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import top.senseiliu.jackson.JacksonNodeFactory;
+
+/**
+ * 紧凑对象节点与 LinkedHashMap 存储的 ObjectNode 对比：解析、按 key 取值、序列化
+ * <p>
+ * 内存占用使用 -prof gc 观察每次解析的分配字节数
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CompactNodeBenchmark {
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private Payload payload;
+
+    @Param({"true", "false"})
+    private boolean compact;
+
+    private String json;
+    private JsonNode tree;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() throws Exception {
+        objectMapper = new ObjectMapper().setNodeFactory(JacksonNodeFactory.of(compact));
+        json = payload.json();
+        tree = objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public JsonNode parse() throws Exception {
+        return objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public void get(Blackhole blackhole) {
+        blackhole.consume(tree.get("orderId"));
+        blackhole.consume(tree.get("status"));
+        for (JsonNode item : tree.get("items")) {
+            blackhole.consume(item.get("skuId"));
+            blackhole.consume(item.get("price"));
+            blackhole.consume(item.get("gift"));
+        }
+    }
+
+    @Benchmark
+    public String serialize() throws Exception {
+        return objectMapper.writeValueAsString(tree);
+    }
+}
@@ -0,0 +1,170 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.Jackson;
+import top.senseiliu.jackson.JacksonObject;
+import top.senseiliu.jackson.JacksonOptions;
+import top.senseiliu.jackson.date.DateFormatExtend;
+import top.senseiliu.jackson.date.DateTimeMode;
+
+/**
+ * 日期的序列化与多格式解析
+ * <p>
+ * 这里分别覆盖每一种格式，legacyParse 为原先按顺序尝试共享 SimpleDateFormat 的实现（非线程安全，只能单线程运行），
+ * engineParse 为按形状直接解析的实现；serializeSeries 序列化连续的时间序列（serializeSeriesEpochMillis 输出为时间戳），legacySerializeSeries 为原先每个值创建 String 的实现
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DateBenchmark {
+    @Param({"2022-04-03 10:15:30", "20220403101530", "2022/04/03 10:15:30", "2022-04-03", "20220403"})
+    private String text;
+
+    private static final JacksonOptions EPOCH_MILLIS = JacksonOptions.DEFAULT.dateTimeMode(DateTimeMode.EPOCH_MILLIS);
+
+    private final Date date = new Date(1648952130000L);
+
+    private JacksonObject jacksonObject;
+    private String json;
+    private DateFormat legacy;
+    private DateFormat engine;
+    private List<Date> series;
+    private ObjectMapper legacyMapper;
+
+    @Setup
+    public void setup() {
+        legacy = new LegacyDateFormat();
+        engine = new DateFormatExtend(new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX"));
+        jacksonObject = new JacksonObject().put("date", text);
+        json = "\"" + text + "\"";
+        series = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            series.add(new Date(date.getTime() + i * 1000L));
+        }
+        legacyMapper = new ObjectMapper().registerModule(new SimpleModule().addSerializer(Date.class, new LegacyDateSerializer()));
+    }
+
+    @Benchmark
+    public String serialize() {
+        return Jackson.objectToString(date);
+    }
+
+    @Benchmark
+    public String rawSerialize() {
+        return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(date);
+    }
+
+    @Benchmark
+    public String serializeSeries() {
+        return Jackson.objectToString(series);
+    }
+
+    @Benchmark
+    public String serializeSeriesEpochMillis() {
+        return Jackson.objectToString(series, EPOCH_MILLIS);
+    }
+
+    @Benchmark
+    public String legacySerializeSeries() throws JsonProcessingException {
+        return legacyMapper.writeValueAsString(series);
+    }
+
+    @Benchmark
+    public Date parse() {
+        return Jackson.parseJavaObject(json, Date.class);
+    }
+
+    @Benchmark
+    public Date getDateTime() {
+        return jacksonObject.getDateTime("date");
+    }
+
+    @Benchmark
+    public Date legacyParse() {
+        return legacy.parse(text, new ParsePosition(0));
+    }
+
+    @Benchmark
+    public Date engineParse() {
+        // jackson 每次反序列化都会 clone 一次
+        return ((DateFormat) engine.clone()).parse(text, new ParsePosition(0));
+    }
+
+    /**
+     * 原先的实现：按顺序尝试共享的 SimpleDateFormat
+     */
+    private static final class LegacyDateFormat extends DateFormat {
+        private final List<DateFormat> list = Arrays.asList(
+                new SimpleDateFormat("yyyy-MM-dd HH:mm:ss"),
+                new SimpleDateFormat("yyyyMMddHHmmss"),
+                new SimpleDateFormat("yyyy/MM/dd HH:mm:ss"),
+                new SimpleDateFormat("yyyy-MM-dd"),
+                new SimpleDateFormat("yyyyMMdd"),
+                new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSX")
+        );
+
+        @Override
+        public StringBuffer format(Date date, StringBuffer toAppendTo, FieldPosition fieldPosition) {
+            return list.get(0).format(date, toAppendTo, fieldPosition);
+        }
+
+        @Override
+        public Date parse(String source, ParsePosition pos) {
+            Date date = null;
+            for (DateFormat df : list) {
+                try {
+                    date = df.parse(source, pos);
+                } catch (Exception ex) {
+                }
+                if (null != date) {
+                    break;
+                }
+            }
+            return date;
+        }
+    }
+
+    /**
+     * 原先的实现：共享的 SimpleDateFormat，每个值创建一个 String
+     */
+    private static final class LegacyDateSerializer extends JsonSerializer<Date> {
+        private final SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+
+        @Override
+        public void serialize(Date value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+            gen.writeString(simpleDateFormat.format(value));
+        }
+    }
+}
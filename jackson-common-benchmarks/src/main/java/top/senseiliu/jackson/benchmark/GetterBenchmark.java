@@ -0,0 +1,135 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.math.BigDecimal;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import top.senseiliu.jackson.Jackson;
+import top.senseiliu.jackson.JacksonArray;
+import top.senseiliu.jackson.JacksonObject;
+
+/**
+ * JacksonObject、JacksonArray 的类型转换取值，与直接读取 ObjectNode 对比
+ * <p>
+ * 每次调用遍历订单中的所有商品，分别读取数字、字符串、布尔、BigDecimal 字段；
+ * legacyArrayGetters 为原先通过 convertValue 转换文本数字的实现
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GetterBenchmark {
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private Payload payload;
+
+    private JacksonObject order;
+    private JacksonArray items;
+    private JsonNode rawOrder;
+    private JsonNode rawItems;
+
+    /**
+     * 数字以字符串形式存储，需要经过类型转换
+     */
+    private JacksonArray textNumbers;
+    private JsonNode rawTextNumbers;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() throws Exception {
+        String json = payload.json();
+        order = Jackson.parseObject(json);
+        items = order.getJacksonArray("items");
+        rawOrder = new ObjectMapper().readTree(json);
+        rawItems = rawOrder.get("items");
+
+        textNumbers = new JacksonArray();
+        for (int i = 0; i < items.size(); i++) {
+            textNumbers.add(String.valueOf(items.getJacksonObject(i).getLong("skuId")));
+        }
+        objectMapper = new ObjectMapper();
+        rawTextNumbers = objectMapper.readTree(textNumbers.toJsonString());
+    }
+
+    @Benchmark
+    public void objectGetters(Blackhole blackhole) {
+        for (int i = 0; i < items.size(); i++) {
+            JacksonObject item = items.getJacksonObject(i);
+            blackhole.consume(item.getLong("skuId"));
+            blackhole.consume(item.getString("name"));
+            blackhole.consume(item.intValue("quantity"));
+            blackhole.consume(item.getBigDecimal("price"));
+            blackhole.consume(item.getBoolean("gift"));
+            blackhole.consume(item.doubleValue("price"));
+        }
+    }
+
+    @Benchmark
+    public void rawObjectGetters(Blackhole blackhole) {
+        for (int i = 0; i < rawItems.size(); i++) {
+            JsonNode item = rawItems.get(i);
+            blackhole.consume(item.get("skuId").longValue());
+            blackhole.consume(item.get("name").asText());
+            blackhole.consume(item.get("quantity").intValue());
+            blackhole.consume(item.get("price").decimalValue());
+            blackhole.consume(item.get("gift").booleanValue());
+            blackhole.consume(item.get("price").doubleValue());
+        }
+    }
+
+    @Benchmark
+    public void arrayGetters(Blackhole blackhole) {
+        for (int i = 0; i < textNumbers.size(); i++) {
+            blackhole.consume(textNumbers.getLong(i));
+            blackhole.consume(textNumbers.intValue(i));
+            blackhole.consume(textNumbers.getDouble(i));
+        }
+    }
+
+    @Benchmark
+    public void legacyArrayGetters(Blackhole blackhole) {
+        for (int i = 0; i < rawTextNumbers.size(); i++) {
+            JsonNode node = rawTextNumbers.get(i);
+            blackhole.consume(objectMapper.convertValue(node, Long.class));
+            blackhole.consume(objectMapper.convertValue(node, int.class));
+            blackhole.consume(objectMapper.convertValue(node, Double.class));
+        }
+    }
+
+    @Benchmark
+    public void rawArrayGetters(Blackhole blackhole) {
+        for (int i = 0; i < rawTextNumbers.size(); i++) {
+            JsonNode node = rawTextNumbers.get(i);
+            blackhole.consume(node.asLong());
+            blackhole.consume(node.asInt());
+            blackhole.consume(node.asDouble());
+        }
+    }
+
+    @Benchmark
+    public BigDecimal orderAmount() {
+        return order.getBigDecimal("amount");
+    }
+
+    @Benchmark
+    public Date orderCreateTime() {
+        return order.getDateTime("createTime");
+    }
+}
@@ -0,0 +1,126 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.Jackson;
+import top.senseiliu.jackson.JacksonArray;
+import top.senseiliu.jackson.JacksonObject;
+
+/**
+ * Jackson 门面的解析、序列化、转化，与直接使用 ObjectMapper 对比
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JacksonBenchmark {
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private Payload payload;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private String json;
+    private String arrayJson;
+    private Payload.Order order;
+    private JacksonObject jacksonObject;
+    private JsonNode objectNode;
+    private Map<?, ?> map;
+
+    @Setup
+    public void setup() throws Exception {
+        json = payload.json();
+        arrayJson = Jackson.objectToString(payload.order().getItems());
+        order = payload.order();
+        jacksonObject = Jackson.parseObject(json);
+        objectNode = objectMapper.readTree(json);
+        map = objectMapper.readValue(json, Map.class);
+    }
+
+    @Benchmark
+    public JacksonObject parseObject() {
+        return Jackson.parseObject(json);
+    }
+
+    @Benchmark
+    public JsonNode rawReadTree() throws Exception {
+        return objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public JacksonArray parseArray() {
+        return Jackson.parseArray(arrayJson);
+    }
+
+    @Benchmark
+    public JsonNode rawReadArray() throws Exception {
+        return objectMapper.readTree(arrayJson);
+    }
+
+    @Benchmark
+    public Payload.Order parseJavaObject() {
+        return Jackson.parseJavaObject(json, Payload.Order.class);
+    }
+
+    @Benchmark
+    public Payload.Order rawReadValue() throws Exception {
+        return objectMapper.readValue(json, Payload.Order.class);
+    }
+
+    @Benchmark
+    public String objectToString() {
+        return Jackson.objectToString(order);
+    }
+
+    @Benchmark
+    public String rawWriteValue() throws Exception {
+        return objectMapper.writeValueAsString(order);
+    }
+
+    @Benchmark
+    public String toJsonString() {
+        return jacksonObject.toJsonString();
+    }
+
+    @Benchmark
+    public String rawWriteTree() throws Exception {
+        return objectMapper.writeValueAsString(objectNode);
+    }
+
+    @Benchmark
+    public Payload.Order convert() {
+        return Jackson.convert(map, Payload.Order.class);
+    }
+
+    @Benchmark
+    public Payload.Order rawConvertValue() {
+        return objectMapper.convertValue(map, Payload.Order.class);
+    }
+
+    @Benchmark
+    public JacksonObject convertObject() {
+        return Jackson.convertObject(order);
+    }
+
+    @Benchmark
+    public JsonNode rawValueToTree() {
+        return objectMapper.valueToTree(order);
+    }
+}
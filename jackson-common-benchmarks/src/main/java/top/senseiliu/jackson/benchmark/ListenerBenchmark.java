@@ -0,0 +1,62 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.Jackson;
+import top.senseiliu.jackson.JacksonMetrics;
+import top.senseiliu.jackson.JacksonObject;
+
+/**
+ * 指标监听器的开销，none 为没有安装监听器
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ListenerBenchmark {
+    @Param({"none", "metrics"})
+    private String listener;
+
+    private String json;
+    private Payload.Order order;
+
+    @Setup
+    public void setup() {
+        if ("metrics".equals(listener)) {
+            Jackson.setListener(new JacksonMetrics());
+        }
+        json = Payload.SMALL.json();
+        order = Payload.SMALL.order();
+    }
+
+    @TearDown
+    public void tearDown() {
+        Jackson.setListener(null);
+    }
+
+    @Benchmark
+    public JacksonObject parseObject() {
+        return Jackson.parseObject(json);
+    }
+
+    @Benchmark
+    public String objectToString() {
+        return Jackson.objectToString(order);
+    }
+}
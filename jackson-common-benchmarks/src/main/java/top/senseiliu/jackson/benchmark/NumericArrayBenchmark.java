@@ -0,0 +1,91 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.Jackson;
+import top.senseiliu.jackson.JacksonArray;
+
+/**
+ * 数字数组（指标、坐标、向量）的解析、取值与序列化
+ * <p>
+ * JacksonArray 的数字数组使用基本类型数组存储；legacy* 为 jackson 默认的 ArrayNode，
+ * 每个元素一个 DoubleNode，取值时逐个读取节点
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class NumericArrayBenchmark {
+    @Param({"1024", "65536"})
+    private int size;
+
+    private String json;
+    private JacksonArray array;
+    private JsonNode legacyArray;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() throws Exception {
+        Random random = new Random(20220403L);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = random.nextGaussian();
+        }
+        objectMapper = new ObjectMapper();
+        json = objectMapper.writeValueAsString(values);
+        array = Jackson.parseArray(json);
+        legacyArray = objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public JacksonArray parse() {
+        return Jackson.parseArray(json);
+    }
+
+    @Benchmark
+    public JsonNode legacyParse() throws Exception {
+        return objectMapper.readTree(json);
+    }
+
+    @Benchmark
+    public double[] toDoubleArray() {
+        return array.toDoubleArray();
+    }
+
+    @Benchmark
+    public double[] legacyToDoubleArray() {
+        double[] values = new double[legacyArray.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = legacyArray.get(i).doubleValue();
+        }
+        return values;
+    }
+
+    @Benchmark
+    public String serialize() {
+        return array.toJsonString();
+    }
+
+    @Benchmark
+    public String legacySerialize() throws Exception {
+        return objectMapper.writeValueAsString(legacyArray);
+    }
+}
@@ -0,0 +1,196 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import top.senseiliu.jackson.Jackson;
+
+/**
+ * 压测使用的数据，固定随机种子，每次生成的内容完全一致
+ * <ul>
+ *     <li>SMALL：一个订单、2 个商品，约 500 字节</li>
+ *     <li>MEDIUM：一个订单、50 个商品，约 10 KB</li>
+ *     <li>LARGE：一个订单、5000 个商品，约 1 MB</li>
+ * </ul>
+ *
+ * @author liuguanliang
+ */
+public enum Payload {
+    SMALL(2),
+    MEDIUM(50),
+    LARGE(5000);
+
+    private static final long SEED = 20220403L;
+
+    /**
+     * 订单时间的起点，保证生成的日期固定
+     */
+    private static final long EPOCH = 1648915200000L;
+
+    private final int items;
+
+    Payload(int items) {
+        this.items = items;
+    }
+
+    /**
+     * 生成订单
+     *
+     * @return 订单
+     */
+    public Order order() {
+        Random random = new Random(SEED + items);
+        Order order = new Order();
+        order.setOrderId(20220403000000L + random.nextInt(1000000));
+        order.setUserId((long) random.nextInt(100000));
+        order.setStatus(random.nextBoolean() ? "PAID" : "SHIPPED");
+        order.setAddress("上海市浦东新区张江路" + random.nextInt(1000) + "号");
+        order.setAmount(BigDecimal.valueOf(random.nextInt(1000000), 2));
+        order.setCreateTime(new Date(EPOCH + random.nextInt(86400) * 1000L));
+
+        List<Item> list = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            Item item = new Item();
+            item.setSkuId(10000L + random.nextInt(90000));
+            item.setName("商品-" + Integer.toHexString(random.nextInt()));
+            item.setQuantity(1 + random.nextInt(10));
+            item.setPrice(BigDecimal.valueOf(random.nextInt(100000), 2));
+            item.setGift(random.nextInt(10) == 0);
+            list.add(item);
+        }
+        order.setItems(list);
+        return order;
+    }
+
+    /**
+     * 生成订单的 json string
+     *
+     * @return json string
+     */
+    public String json() {
+        return Jackson.objectToString(order());
+    }
+
+    /**
+     * 订单
+     */
+    public static class Order {
+        private Long orderId;
+        private Long userId;
+        private String status;
+        private String address;
+        private BigDecimal amount;
+        private Date createTime;
+        private List<Item> items;
+
+        public Long getOrderId() {
+            return orderId;
+        }
+
+        public void setOrderId(Long orderId) {
+            this.orderId = orderId;
+        }
+
+        public Long getUserId() {
+            return userId;
+        }
+
+        public void setUserId(Long userId) {
+            this.userId = userId;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public void setStatus(String status) {
+            this.status = status;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+
+        public void setAddress(String address) {
+            this.address = address;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public void setAmount(BigDecimal amount) {
+            this.amount = amount;
+        }
+
+        public Date getCreateTime() {
+            return createTime;
+        }
+
+        public void setCreateTime(Date createTime) {
+            this.createTime = createTime;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public void setItems(List<Item> items) {
+            this.items = items;
+        }
+    }
+
+    /**
+     * 订单中的商品
+     */
+    public static class Item {
+        private Long skuId;
+        private String name;
+        private Integer quantity;
+        private BigDecimal price;
+        private Boolean gift;
+
+        public Long getSkuId() {
+            return skuId;
+        }
+
+        public void setSkuId(Long skuId) {
+            this.skuId = skuId;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public Integer getQuantity() {
+            return quantity;
+        }
+
+        public void setQuantity(Integer quantity) {
+            this.quantity = quantity;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        public void setPrice(BigDecimal price) {
+            this.price = price;
+        }
+
+        public Boolean getGift() {
+            return gift;
+        }
+
+        public void setGift(Boolean gift) {
+            this.gift = gift;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.Jackson;
+
+/**
+ * 启动后第一次调用的耗时，每次测量都在新的 JVM 中进行
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 1)
+@Fork(10)
+public class PrewarmBenchmark {
+    @Param({"false", "true"})
+    private boolean prewarm;
+
+    private String json;
+
+    @Setup
+    public void setup() {
+        json = "{\"orderId\":1,\"userId\":2,\"status\":\"PAID\",\"createTime\":\"2022-04-03 10:15:30\","
+                + "\"items\":[{\"skuId\":3,\"name\":\"n\",\"quantity\":1,\"price\":1.5,\"gift\":false}]}";
+        // 两组都完成 Jackson 的类初始化，只比较序列化器与反序列化器缓存的差异
+        Jackson.getListener();
+        if (prewarm) {
+            Jackson.prewarm(Payload.Order.class);
+        }
+    }
+
+    @Benchmark
+    public String firstRoundTrip() {
+        return Jackson.objectToString(Jackson.parseJavaObject(json, Payload.Order.class));
+    }
+}
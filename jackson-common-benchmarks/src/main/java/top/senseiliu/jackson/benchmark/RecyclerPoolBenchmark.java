@@ -0,0 +1,154 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.Jackson;
+import top.senseiliu.jackson.JacksonRecyclerPools;
+
+/**
+ * 缓冲区回收策略对比
+ * <p>
+ * 分别在线程池（长生命周期平台线程）、每个任务一个平台线程（短生命周期线程）、每个任务一个虚拟线程（jdk21+）下，
+ * 对比各个回收策略的吞吐量。当前 jdk 不支持虚拟线程时，virtual-per-task 在初始化时报错，不影响其它组合
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class RecyclerPoolBenchmark {
+    private static final int TASKS = 1000;
+    private static final int THREADS = Runtime.getRuntime().availableProcessors() * 2;
+
+    @Param({"thread-local", "lock-free", "striped", "bounded", "none"})
+    private String pool;
+
+    @Param({"platform-pool", "platform-per-task", "virtual-per-task"})
+    private String executor;
+
+    private String json;
+    private ExecutorService executorService;
+
+    @Setup
+    public void setup() throws Exception {
+        Jackson.setRecyclerPool(JacksonRecyclerPools.of(pool));
+        json = Payload.MEDIUM.json();
+    }
+
+    @Setup(Level.Iteration)
+    public void startExecutor() throws Exception {
+        switch (executor) {
+            case "platform-pool":
+                executorService = Executors.newFixedThreadPool(THREADS);
+                break;
+            case "platform-per-task":
+                executorService = new ThreadPerTaskExecutor(Thread::new);
+                break;
+            default:
+                Method method = virtualThreadFactory();
+                if (method == null) {
+                    throw new UnsupportedOperationException("当前 jdk 不支持虚拟线程");
+                }
+                executorService = (ExecutorService) method.invoke(null);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void stopExecutor() throws Exception {
+        if (executorService != null) {
+            executorService.shutdown();
+            executorService.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    /**
+     * 每个任务完成一次解析与序列化
+     */
+    @Benchmark
+    @OperationsPerInvocation(TASKS)
+    public void parseAndWrite() throws Exception {
+        List<Future<?>> futures = new ArrayList<>(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            futures.add(executorService.submit(() -> Jackson.parseObject(json).toJsonString()));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+    }
+
+    private static Method virtualThreadFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 每个任务一个新线程
+     */
+    private static final class ThreadPerTaskExecutor extends AbstractExecutorService {
+        private final ThreadFactory threadFactory;
+        private volatile boolean shutdown;
+
+        private ThreadPerTaskExecutor(ThreadFactory threadFactory) {
+            this.threadFactory = threadFactory;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            threadFactory.newThread(command).start();
+        }
+
+        @Override
+        public void shutdown() {
+            shutdown = true;
+        }
+
+        @Override
+        public List<Runnable> shutdownNow() {
+            shutdown = true;
+            return new ArrayList<>();
+        }
+
+        @Override
+        public boolean isShutdown() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean isTerminated() {
+            return shutdown;
+        }
+
+        @Override
+        public boolean awaitTermination(long timeout, TimeUnit unit) {
+            return true;
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package top.senseiliu.jackson.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import top.senseiliu.jackson.JacksonArray;
+import top.senseiliu.jackson.JacksonObject;
+
+/**
+ * 通过 put / add 构建响应树
+ * <p>
+ * build 使用 put(String, Object) 与 add(Object...)，typedBuild 使用基本类型的重载，
+ * legacyBuild 为原先每个值都经过 valueToTree 的实现
+ *
+ * @author liuguanliang
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TreeBuildBenchmark {
+    @Param({"SMALL", "MEDIUM", "LARGE"})
+    private Payload payload;
+
+    private Payload.Order order;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setup() {
+        order = payload.order();
+        objectMapper = new ObjectMapper();
+    }
+
+    @Benchmark
+    public JacksonObject build() {
+        JacksonArray items = new JacksonArray();
+        for (Payload.Item item : order.getItems()) {
+            items.add(new JacksonObject()
+                    .put("skuId", (Object) item.getSkuId())
+                    .put("name", (Object) item.getName())
+                    .put("quantity", (Object) item.getQuantity())
+                    .put("price", item.getPrice())
+                    .put("gift", (Object) item.getGift()));
+        }
+        return new JacksonObject()
+                .put("orderId", (Object) order.getOrderId())
+                .put("status", (Object) order.getStatus())
+                .put("amount", order.getAmount())
+                .put("createTime", order.getCreateTime())
+                .put("items", items);
+    }
+
+    @Benchmark
+    public JacksonObject typedBuild() {
+        JacksonArray items = new JacksonArray();
+        for (Payload.Item item : order.getItems()) {
+            items.add(new JacksonObject()
+                    .put("skuId", item.getSkuId().longValue())
+                    .put("name", item.getName())
+                    .put("quantity", item.getQuantity().intValue())
+                    .put("price", item.getPrice())
+                    .put("gift", item.getGift().booleanValue()));
+        }
+        return new JacksonObject()
+                .put("orderId", order.getOrderId().longValue())
+                .put("status", order.getStatus())
+                .put("amount", order.getAmount())
+                .put("createTime", order.getCreateTime())
+                .put("items", items);
+    }
+
+    @Benchmark
+    public ObjectNode legacyBuild() {
+        ArrayNode items = objectMapper.createArrayNode();
+        List<Payload.Item> list = order.getItems();
+        for (Payload.Item item : list) {
+            ObjectNode node = objectMapper.createObjectNode();
+            node.replace("skuId", objectMapper.valueToTree(item.getSkuId()));
+            node.replace("name", objectMapper.valueToTree(item.getName()));
+            node.replace("quantity", objectMapper.valueToTree(item.getQuantity()));
+            node.replace("price", objectMapper.valueToTree(item.getPrice()));
+            node.replace("gift", objectMapper.valueToTree(item.getGift()));
+            items.add(objectMapper.<ObjectNode>valueToTree(node));
+        }
+        ObjectNode root = objectMapper.createObjectNode();
+        root.replace("orderId", objectMapper.valueToTree(order.getOrderId()));
+        root.replace("status", objectMapper.valueToTree(order.getStatus()));
+        root.replace("amount", objectMapper.valueToTree(order.getAmount()));
+        root.replace("createTime", objectMapper.valueToTree(order.getCreateTime()));
+        root.replace("items", objectMapper.valueToTree(items));
+        return root;
+    }
+}
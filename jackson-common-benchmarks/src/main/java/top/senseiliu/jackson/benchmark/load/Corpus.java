@@ -0,0 +1,205 @@
+package top.senseiliu.jackson.benchmark.load;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import java.util.Random;
+
+import top.senseiliu.jackson.JacksonArray;
+import top.senseiliu.jackson.JacksonObject;
+
+/**
+ * 可复现的 json 语料
+ * <p>
+ * 相同的参数与随机种子生成完全相同的内容。每个对象包含 width 个字段：
+ * 未到达最大深度时，第一个字段为子对象，第二个字段为对象数组；
+ * 随后的 dateFields 个字段为日期字符串，轮流使用各个日期格式；
+ * 其余字段按比例生成字符串、数字，剩下的为布尔
+ *
+ * @author liuguanliang
+ */
+public final class Corpus {
+    /**
+     * 日期字段使用的格式，与 OBJECT_MAPPER 支持的反序列化格式一致
+     */
+    private static final String[] DATE_PATTERNS = {
+            "yyyy-MM-dd HH:mm:ss", "yyyyMMddHHmmss", "yyyy/MM/dd HH:mm:ss", "yyyy-MM-dd", "yyyyMMdd"
+    };
+
+    /**
+     * 日期的起点，保证生成的日期固定
+     */
+    private static final long EPOCH = 1648915200000L;
+
+    private final Spec spec;
+    private final List<String> documents;
+    private final long characters;
+
+    private Corpus(Spec spec, List<String> documents, long characters) {
+        this.spec = spec;
+        this.documents = documents;
+        this.characters = characters;
+    }
+
+    /**
+     * 按参数生成语料
+     *
+     * @param spec 参数
+     * @return 语料
+     */
+    public static Corpus generate(Spec spec) {
+        Random random = new Random(spec.seed);
+        SimpleDateFormat[] formats = new SimpleDateFormat[DATE_PATTERNS.length];
+        for (int i = 0; i < formats.length; i++) {
+            formats[i] = new SimpleDateFormat(DATE_PATTERNS[i]);
+        }
+
+        List<String> documents = new ArrayList<>(spec.documents);
+        long characters = 0;
+        for (int i = 0; i < spec.documents; i++) {
+            String json = object(spec, random, formats, spec.depth).toJsonString();
+            documents.add(json);
+            characters += json.length();
+        }
+        return new Corpus(spec, Collections.unmodifiableList(documents), characters);
+    }
+
+    private static JacksonObject object(Spec spec, Random random, SimpleDateFormat[] formats, int depth) {
+        JacksonObject object = new JacksonObject();
+        int field = 0;
+        if (depth > 0 && field < spec.width) {
+            object.put("child", object(spec, random, formats, depth - 1));
+            field++;
+        }
+        if (depth > 0 && field < spec.width) {
+            JacksonArray array = new JacksonArray();
+            for (int i = 0; i < spec.arrayLength; i++) {
+                array.add(object(spec, random, formats, 0));
+            }
+            object.put("items", array);
+            field++;
+        }
+        for (int i = 0; i < spec.dateFields && field < spec.width; i++, field++) {
+            Date date = new Date(EPOCH + random.nextInt(365 * 86400) * 1000L);
+            object.put(dateField(i), formats[i % formats.length].format(date));
+        }
+        for (; field < spec.width; field++) {
+            double kind = random.nextDouble();
+            if (kind < spec.stringRatio) {
+                object.put("s" + field, string(random));
+            } else if (kind < spec.stringRatio + spec.numberRatio) {
+                object.put("n" + field, random.nextBoolean() ? random.nextInt(1000000) : random.nextDouble() * 10000);
+            } else {
+                object.put("b" + field, random.nextBoolean());
+            }
+        }
+        return object;
+    }
+
+    private static String string(Random random) {
+        int length = 4 + random.nextInt(28);
+        StringBuilder builder = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            builder.append((char) ('a' + random.nextInt(26)));
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 第 i 个日期字段的字段名
+     *
+     * @param i 下标
+     * @return 字段名
+     */
+    public static String dateField(int i) {
+        return "date" + i;
+    }
+
+    public Spec getSpec() {
+        return spec;
+    }
+
+    public List<String> getDocuments() {
+        return documents;
+    }
+
+    /**
+     * 所有文档的总字符数
+     *
+     * @return 字符数
+     */
+    public long getCharacters() {
+        return characters;
+    }
+
+    /**
+     * 语料参数
+     */
+    public static final class Spec {
+        private int documents = 1000;
+        private int depth = 3;
+        private int width = 12;
+        private double stringRatio = 0.5;
+        private double numberRatio = 0.4;
+        private int arrayLength = 4;
+        private int dateFields = 2;
+        private long seed = 20220403L;
+
+        public Spec documents(int documents) {
+            this.documents = documents;
+            return this;
+        }
+
+        public Spec depth(int depth) {
+            this.depth = depth;
+            return this;
+        }
+
+        public Spec width(int width) {
+            this.width = width;
+            return this;
+        }
+
+        public Spec stringRatio(double stringRatio) {
+            this.stringRatio = stringRatio;
+            return this;
+        }
+
+        public Spec numberRatio(double numberRatio) {
+            this.numberRatio = numberRatio;
+            return this;
+        }
+
+        public Spec arrayLength(int arrayLength) {
+            this.arrayLength = arrayLength;
+            return this;
+        }
+
+        public Spec dateFields(int dateFields) {
+            this.dateFields = dateFields;
+            return this;
+        }
+
+        public Spec seed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        public long getSeed() {
+            return seed;
+        }
+
+        public int getDateFields() {
+            return dateFields;
+        }
+
+        @Override
+        public String toString() {
+            return "documents=" + documents + ", depth=" + depth + ", width=" + width
+                    + ", stringRatio=" + stringRatio + ", numberRatio=" + numberRatio
+                    + ", arrayLength=" + arrayLength + ", dateFields=" + dateFields + ", seed=" + seed;
+        }
+    }
+}
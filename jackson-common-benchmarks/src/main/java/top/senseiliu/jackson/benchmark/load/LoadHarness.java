@@ -0,0 +1,469 @@
+package top.senseiliu.jackson.benchmark.load;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import top.senseiliu.jackson.Jackson;
+import top.senseiliu.jackson.JacksonArray;
+import top.senseiliu.jackson.JacksonObject;
+
+/**
+ * 多线程压测，覆盖单线程微基准测不到的 OBJECT_MAPPER、共享日期格式化器上的竞争
+ * <p>
+ * 生成可复现的语料后，N 个线程（平台线程或虚拟线程）按比例混合执行解析、修改、序列化、日期读取，
+ * 输出每种操作的吞吐量、p50 / p99 / p999 延迟，以及每次操作的平均分配字节数。
+ * <pre>
+ * java -cp benchmarks.jar top.senseiliu.jackson.benchmark.load.LoadHarness \
+ *     --threads 16 --mode platform,virtual --duration 30 --mix parse=40,mutate=30,serialize=20,date=10 \
+ *     --documents 1000 --depth 3 --width 12 --string-ratio 0.5 --number-ratio 0.4 --array-length 4 --date-fields 2 \
+ *     --result load-result.json
+ * </pre>
+ * 操作抛出的异常不会终止压测，按操作类型统计错误次数。
+ * 分配字节数通过 com.sun.management.ThreadMXBean 统计：每种操作取工作线程在操作前后的分配字节数之差，
+ * 不计入延迟；all 为所有平台线程（包括虚拟线程的载体线程）的总分配量。
+ * 当前 JVM 不支持时输出 -1，虚拟线程无法按线程统计，每种操作的分配字节数同样输出 -1
+ *
+ * @author liuguanliang
+ */
+public class LoadHarness {
+    /**
+     * 操作类型
+     */
+    enum Operation {
+        /**
+         * 解析成 JacksonObject
+         */
+        PARSE,
+        /**
+         * 解析后修改
+         */
+        MUTATE,
+        /**
+         * 序列化已解析的对象
+         */
+        SERIALIZE,
+        /**
+         * 读取日期字段，经过共享的日期格式化器
+         */
+        DATE
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = parseArgs(args);
+        int threads = Integer.parseInt(options.getOrDefault("threads", String.valueOf(Runtime.getRuntime().availableProcessors())));
+        long duration = Long.parseLong(options.getOrDefault("duration", "10"));
+        long warmup = Long.parseLong(options.getOrDefault("warmup", "3"));
+        String[] modes = options.getOrDefault("mode", "platform,virtual").split(",");
+        double[] mix = parseMix(options.getOrDefault("mix", "parse=40,mutate=30,serialize=20,date=10"));
+
+        Corpus.Spec spec = new Corpus.Spec()
+                .documents(Integer.parseInt(options.getOrDefault("documents", "1000")))
+                .depth(Integer.parseInt(options.getOrDefault("depth", "3")))
+                .width(Integer.parseInt(options.getOrDefault("width", "12")))
+                .stringRatio(Double.parseDouble(options.getOrDefault("string-ratio", "0.5")))
+                .numberRatio(Double.parseDouble(options.getOrDefault("number-ratio", "0.4")))
+                .arrayLength(Integer.parseInt(options.getOrDefault("array-length", "4")))
+                .dateFields(Integer.parseInt(options.getOrDefault("date-fields", "2")))
+                .seed(Long.parseLong(options.getOrDefault("seed", "20220403")));
+        Corpus corpus = Corpus.generate(spec);
+        List<JacksonObject> parsed = new ArrayList<>(corpus.getDocuments().size());
+        for (String document : corpus.getDocuments()) {
+            parsed.add(Jackson.parseObject(document));
+        }
+        System.out.printf("corpus: %s, average %d chars%n", spec, corpus.getCharacters() / corpus.getDocuments().size());
+
+        JacksonArray results = new JacksonArray();
+        for (String mode : modes) {
+            mode = mode.trim();
+            if ("virtual".equals(mode) && virtualThreadBuilder() == null) {
+                System.out.println("当前 jdk 不支持虚拟线程，跳过 virtual");
+                continue;
+            }
+            run(mode, threads, TimeUnit.SECONDS.toNanos(warmup), corpus, parsed, mix);
+            Result result = run(mode, threads, TimeUnit.SECONDS.toNanos(duration), corpus, parsed, mix);
+            result.print();
+            results.add(result.toJson());
+        }
+
+        String file = options.get("result");
+        if (file != null) {
+            JacksonObject report = new JacksonObject()
+                    .put("corpus", spec.toString())
+                    .put("threads", threads)
+                    .put("durationSeconds", duration)
+                    .put("results", results);
+            Files.write(Paths.get(file), report.toJsonString().getBytes(StandardCharsets.UTF_8));
+            System.out.println("result is saved to " + file);
+        }
+    }
+
+    private static Result run(String mode, int threads, long nanos, Corpus corpus, List<JacksonObject> parsed,
+                              double[] mix) throws Exception {
+        List<Worker> workers = new ArrayList<>(threads);
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        CountDownLatch exit = new CountDownLatch(1);
+        List<Thread> started = new ArrayList<>(threads);
+        for (int i = 0; i < threads; i++) {
+            Worker worker = new Worker(i, corpus, parsed, mix, ready, start, done, exit);
+            workers.add(worker);
+            Thread thread = newThread(mode, worker);
+            thread.start();
+            started.add(thread);
+        }
+
+        ready.await();
+        long allocatedBefore = allocatedBytes();
+        long begin = System.nanoTime();
+        for (Worker worker : workers) {
+            worker.deadline = begin + nanos;
+        }
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+        // 线程退出前统计，保证载体线程与工作线程都还存活
+        long allocatedAfter = allocatedBytes();
+        exit.countDown();
+        for (Thread thread : started) {
+            thread.join();
+        }
+
+        Result result = new Result(mode, threads, elapsed);
+        for (Worker worker : workers) {
+            result.merge(worker);
+        }
+        result.allocated = allocatedBefore < 0 || allocatedAfter < 0 ? -1 : allocatedAfter - allocatedBefore;
+        return result;
+    }
+
+    /**
+     * 所有存活平台线程的分配字节数之和
+     */
+    private static long allocatedBytes() {
+        com.sun.management.ThreadMXBean bean = allocationBean();
+        if (bean == null) {
+            return -1;
+        }
+        long sum = 0;
+        for (long allocated : bean.getThreadAllocatedBytes(bean.getAllThreadIds())) {
+            if (allocated > 0) {
+                sum += allocated;
+            }
+        }
+        return sum;
+    }
+
+    /**
+     * 支持按线程统计分配字节数时返回 ThreadMXBean，否则返回 null
+     */
+    private static com.sun.management.ThreadMXBean allocationBean() {
+        ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+        if (!(threadMXBean instanceof com.sun.management.ThreadMXBean)) {
+            return null;
+        }
+        com.sun.management.ThreadMXBean bean = (com.sun.management.ThreadMXBean) threadMXBean;
+        if (!bean.isThreadAllocatedMemorySupported() || !bean.isThreadAllocatedMemoryEnabled()) {
+            return null;
+        }
+        return bean;
+    }
+
+    private static Thread newThread(String mode, Runnable runnable) throws Exception {
+        if ("platform".equals(mode)) {
+            Thread thread = new Thread(runnable, "load-worker");
+            thread.setDaemon(true);
+            return thread;
+        }
+        if ("virtual".equals(mode)) {
+            Object builder = virtualThreadBuilder().invoke(null);
+            Method unstarted = Class.forName("java.lang.Thread$Builder").getMethod("unstarted", Runnable.class);
+            return (Thread) unstarted.invoke(builder, runnable);
+        }
+        throw new IllegalArgumentException("未知的线程类型:" + mode);
+    }
+
+    private static Method virtualThreadBuilder() {
+        try {
+            return Thread.class.getMethod("ofVirtual");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    private static Map<String, String> parseArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (int i = 0; i < args.length; i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("参数格式为 --name value:" + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        return options;
+    }
+
+    /**
+     * 解析操作比例，返回累计概率
+     */
+    private static double[] parseMix(String text) {
+        double[] weights = new double[Operation.values().length];
+        double sum = 0;
+        for (String part : text.split(",")) {
+            String[] pair = part.split("=");
+            Operation operation = Operation.valueOf(pair[0].trim().toUpperCase());
+            weights[operation.ordinal()] = Double.parseDouble(pair[1].trim());
+            sum += weights[operation.ordinal()];
+        }
+        double cumulative = 0;
+        for (int i = 0; i < weights.length; i++) {
+            cumulative += weights[i] / sum;
+            weights[i] = cumulative;
+        }
+        return weights;
+    }
+
+    /**
+     * 工作线程，每个线程有自己的随机数与直方图
+     */
+    private static final class Worker implements Runnable {
+        private final Random random;
+        private final List<String> documents;
+        private final List<JacksonObject> parsed;
+        private final int dateFields;
+        private final double[] mix;
+        private final CountDownLatch ready;
+        private final CountDownLatch start;
+        private final CountDownLatch done;
+        private final CountDownLatch exit;
+        private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+        private final long[] errors = new long[Operation.values().length];
+        /**
+         * 每种操作的分配字节数之和，只统计成功的操作
+         */
+        private final long[] allocated = new long[Operation.values().length];
+        /**
+         * 当前线程是否支持统计分配字节数，虚拟线程不支持
+         */
+        private boolean allocationTracked;
+        private RuntimeException firstError;
+        private volatile long deadline;
+
+        /**
+         * 防止结果被优化掉
+         */
+        private long sink;
+
+        private Worker(int id, Corpus corpus, List<JacksonObject> parsed, double[] mix, CountDownLatch ready,
+                       CountDownLatch start, CountDownLatch done, CountDownLatch exit) {
+            this.random = new Random(corpus.getSpec().getSeed() * 31L + id);
+            this.documents = corpus.getDocuments();
+            this.parsed = parsed;
+            this.dateFields = corpus.getSpec().getDateFields();
+            this.mix = mix;
+            this.ready = ready;
+            this.start = start;
+            this.done = done;
+            this.exit = exit;
+            for (Operation operation : Operation.values()) {
+                histograms.put(operation, new LatencyHistogram());
+            }
+        }
+
+        @Override
+        public void run() {
+            try {
+                com.sun.management.ThreadMXBean bean = allocationBean();
+                long threadId = Thread.currentThread().getId();
+                boolean tracked = bean != null && bean.getThreadAllocatedBytes(threadId) >= 0;
+                allocationTracked = tracked;
+                ready.countDown();
+                start.await();
+                long end = deadline;
+                while (System.nanoTime() < end) {
+                    Operation operation = next();
+                    int document = random.nextInt(documents.size());
+                    long allocatedBefore = tracked ? bean.getThreadAllocatedBytes(threadId) : 0;
+                    long begin = System.nanoTime();
+                    long finish;
+                    try {
+                        sink += execute(operation, document);
+                        finish = System.nanoTime();
+                    } catch (RuntimeException e) {
+                        // 并发问题不终止压测，按操作类型统计
+                        errors[operation.ordinal()]++;
+                        if (firstError == null) {
+                            firstError = e;
+                        }
+                        continue;
+                    }
+                    histograms.get(operation).record(finish - begin);
+                    if (tracked) {
+                        allocated[operation.ordinal()] += bean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+            try {
+                exit.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private Operation next() {
+            double value = random.nextDouble();
+            Operation[] operations = Operation.values();
+            for (int i = 0; i < mix.length; i++) {
+                if (value < mix[i]) {
+                    return operations[i];
+                }
+            }
+            return operations[operations.length - 1];
+        }
+
+        private long execute(Operation operation, int document) {
+            switch (operation) {
+                case PARSE:
+                    return Jackson.parseObject(documents.get(document)).size();
+                case MUTATE:
+                    JacksonObject object = Jackson.parseObject(documents.get(document));
+                    object.put("version", document).remove(Corpus.dateField(0));
+                    JacksonObject child = object.getJacksonObject("child");
+                    if (child != null) {
+                        child.put("updated", true);
+                    }
+                    return object.size();
+                case SERIALIZE:
+                    return parsed.get(document).toJsonString().length();
+                case DATE:
+                    long sum = 0;
+                    JacksonObject source = parsed.get(document);
+                    for (int i = 0; i < dateFields; i++) {
+                        Date date = source.getDateTime(Corpus.dateField(i));
+                        sum += date == null ? 0 : date.getTime();
+                    }
+                    return sum;
+                default:
+                    throw new IllegalStateException();
+            }
+        }
+    }
+
+    /**
+     * 一次运行的结果
+     */
+    private static final class Result {
+        private final String mode;
+        private final int threads;
+        private final long elapsed;
+        private final Map<Operation, LatencyHistogram> histograms = new EnumMap<>(Operation.class);
+        private final LatencyHistogram all = new LatencyHistogram();
+        private final long[] errors = new long[Operation.values().length];
+        private final long[] allocatedByOperation = new long[Operation.values().length];
+        private boolean allocationTracked = true;
+        private RuntimeException firstError;
+        private long allocated;
+
+        private Result(String mode, int threads, long elapsed) {
+            this.mode = mode;
+            this.threads = threads;
+            this.elapsed = elapsed;
+            for (Operation operation : Operation.values()) {
+                histograms.put(operation, new LatencyHistogram());
+            }
+        }
+
+        private void merge(Worker worker) {
+            for (int i = 0; i < errors.length; i++) {
+                errors[i] += worker.errors[i];
+                allocatedByOperation[i] += worker.allocated[i];
+            }
+            allocationTracked &= worker.allocationTracked;
+            if (firstError == null) {
+                firstError = worker.firstError;
+            }
+            for (Operation operation : Operation.values()) {
+                histograms.get(operation).merge(worker.histograms.get(operation));
+                all.merge(worker.histograms.get(operation));
+            }
+        }
+
+        private double throughput(LatencyHistogram histogram) {
+            return histogram.count() * 1e9 / elapsed;
+        }
+
+        private long allocatedPerOperation() {
+            return allocated < 0 || all.count() == 0 ? -1 : allocated / all.count();
+        }
+
+        private long allocatedPerOperation(Operation operation) {
+            long count = histograms.get(operation).count();
+            return !allocationTracked || count == 0 ? -1 : allocatedByOperation[operation.ordinal()] / count;
+        }
+
+        private void print() {
+            System.out.printf("%n%s threads x %d, %.1f s, allocation %,d B/op%n", mode, threads, elapsed / 1e9,
+                    allocatedPerOperation());
+            System.out.printf("%-10s %14s %12s %12s %12s %12s %10s %12s%n", "operation", "ops/s", "p50 us", "p99 us",
+                    "p999 us", "max us", "errors", "B/op");
+            long total = 0;
+            for (Operation operation : Operation.values()) {
+                print(operation.name().toLowerCase(), histograms.get(operation), errors[operation.ordinal()],
+                        allocatedPerOperation(operation));
+                total += errors[operation.ordinal()];
+            }
+            print("all", all, total, allocatedPerOperation());
+            if (firstError != null) {
+                System.out.println("first error: " + firstError);
+            }
+        }
+
+        private void print(String name, LatencyHistogram histogram, long error, long allocatedPerOperation) {
+            System.out.printf("%-10s %,14.0f %12.1f %12.1f %12.1f %12.1f %10d %,12d%n", name, throughput(histogram),
+                    histogram.percentile(0.5) / 1e3, histogram.percentile(0.99) / 1e3,
+                    histogram.percentile(0.999) / 1e3, histogram.max() / 1e3, error, allocatedPerOperation);
+        }
+
+        private JacksonObject toJson() {
+            JacksonObject operations = new JacksonObject();
+            for (Operation operation : Operation.values()) {
+                operations.put(operation.name().toLowerCase(),
+                        toJson(histograms.get(operation)).put("errors", errors[operation.ordinal()])
+                                .put("allocatedBytesPerOperation", allocatedPerOperation(operation)));
+            }
+            return new JacksonObject()
+                    .put("mode", mode)
+                    .put("threads", threads)
+                    .put("elapsedSeconds", elapsed / 1e9)
+                    .put("allocatedBytesPerOperation", allocatedPerOperation())
+                    .put("all", toJson(all))
+                    .put("operations", operations);
+        }
+
+        private JacksonObject toJson(LatencyHistogram histogram) {
+            return new JacksonObject()
+                    .put("count", histogram.count())
+                    .put("opsPerSecond", throughput(histogram))
+                    .put("p50Micros", histogram.percentile(0.5) / 1e3)
+                    .put("p99Micros", histogram.percentile(0.99) / 1e3)
+                    .put("p999Micros", histogram.percentile(0.999) / 1e3)
+                    .put("maxMicros", histogram.max() / 1e3);
+        }
+    }
+}
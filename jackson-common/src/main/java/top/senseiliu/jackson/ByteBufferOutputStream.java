@@ -0,0 +1,85 @@
+package top.senseiliu.jackson;
+
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * 写入调用方提供的 ByteBuffer 的输出流，支持堆外内存
+ * <p>
+ * 写入调用方提供的 ByteBuffer 时剩余空间不足抛出 BufferOverflowException，不会自动扩容；
+ * 通过 {@link #growable(int)} 创建时由输出流自己分配 ByteBuffer，空间不足时按两倍扩容
+ *
+ * @author liuguanliang
+ */
+final class ByteBufferOutputStream extends OutputStream {
+    /**
+     * 输出目标
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * 空间不足时是否扩容
+     */
+    private final boolean growable;
+
+    ByteBufferOutputStream(ByteBuffer buffer) {
+        this(buffer, false);
+    }
+
+    private ByteBufferOutputStream(ByteBuffer buffer, boolean growable) {
+        this.buffer = buffer;
+        this.growable = growable;
+    }
+
+    /**
+     * 自动扩容的输出流
+     *
+     * @param capacity 初始容量
+     * @return 输出流
+     */
+    static ByteBufferOutputStream growable(int capacity) {
+        return new ByteBufferOutputStream(ByteBuffer.allocate(capacity), true);
+    }
+
+    /**
+     * 已写入的内容，position 为 0，limit 为写入的字节数
+     *
+     * @return ByteBuffer
+     */
+    ByteBuffer toBuffer() {
+        ByteBuffer written = buffer.duplicate();
+        written.flip();
+        return written;
+    }
+
+    @Override
+    public void write(int b) {
+        ensureRemaining(1);
+        buffer.put((byte) b);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        ensureRemaining(length);
+        buffer.put(bytes, offset, length);
+    }
+
+    private void ensureRemaining(int length) {
+        if (length <= buffer.remaining()) {
+            return;
+        }
+        if (!growable) {
+            throw new BufferOverflowException();
+        }
+        int required = buffer.position() + length;
+        if (required < 0) {
+            throw new BufferOverflowException();
+        }
+        int capacity = Math.max(required, buffer.capacity() << 1);
+        ByteBuffer grown = ByteBuffer.allocate(capacity < 0 ? Integer.MAX_VALUE : capacity);
+        buffer.flip();
+        grown.put(buffer);
+        buffer = grown;
+    }
+}
@@ -0,0 +1,1501 @@
+package top.senseiliu.jackson;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.Channels;
+import java.nio.channels.CompletionHandler;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedInputStream;
+import top.senseiliu.jackson.date.DateFormatExtend;
+import top.senseiliu.jackson.date.DateTimeMode;
+import top.senseiliu.jackson.date.DateTimes;
+
+/**
+ * 原地址：https://github.com/zxdposter/jackson-fastjson-like
+ * 对 jackson 的封装
+ * 此类有两种作用
+ * 1、提供了一些基础的方法
+ * 2、对公用的 ObjectMapper 做统一的配置，配合 spring 自定义配置 jackson，尽量做到与 spring 框架中的 jackson 表现相同
+ *
+ * @author liuguanliang
+ */
+public abstract class Jackson {
+    /**
+     * 共用对象，与系统统一设置结合，在 spring 项目中，使用 Jackson2ObjectMapperBuilder.build() 生成.
+     */
+    protected static ObjectMapper OBJECT_MAPPER;
+
+    /**
+     * 指标监听器，为 null 时不记录
+     */
+    private static volatile JacksonListener listener;
+
+    /**
+     * 不超过该大小的文件一次性读入，更大的文件流式读取
+     */
+    private static final long READ_ALL_THRESHOLD = 1024 * 1024;
+
+    /**
+     * 异步写入文件时缓冲区的初始大小，与 JsonGenerator 的输出缓冲区一致，不够时自动扩容
+     */
+    private static final int ASYNC_BUFFER_SIZE = 8000;
+
+    static {
+        OBJECT_MAPPER = new ObjectMapper();
+        // 反序列化时不需要在每个类上都使用注解@JsonIgnoreProperties(ignoreUnknown = true)
+        OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        // 数字数组使用基本类型数组存储，按系统属性使用紧凑对象节点
+        OBJECT_MAPPER.setNodeFactory(JacksonNodeFactory.of(Boolean.getBoolean(JacksonNodeFactory.PROPERTY),
+                Boolean.parseBoolean(System.getProperty(JacksonNodeFactory.PRIMITIVE_ARRAY_PROPERTY, "true"))));
+        // 设置反序列化日期格式扩展
+        OBJECT_MAPPER.setConfig(OBJECT_MAPPER.getDeserializationConfig().with(new DateFormatExtend(OBJECT_MAPPER.getDateFormat())));
+        // 序列化日期格式为yyyy-MM-dd HH:mm:ss，同时支持 java.time
+        OBJECT_MAPPER.registerModule(DateTimes.module());
+        // 读写缓冲区回收策略，虚拟线程下使用共享的回收池
+        String recyclerPool = System.getProperty(JacksonRecyclerPools.PROPERTY);
+        if (recyclerPool != null) {
+            OBJECT_MAPPER.getFactory().setRecyclerPool(JacksonRecyclerPools.of(recyclerPool));
+        }
+        // bean 序列化加速，默认不开启，依赖不存在时忽略
+        String accelerator = System.getProperty(JacksonAccelerators.PROPERTY);
+        if (accelerator != null) {
+            Module module = JacksonAccelerators.of(accelerator);
+            if (module != null) {
+                OBJECT_MAPPER.registerModule(module);
+            }
+        }
+    }
+
+    /**
+     * 替换 OBJECT_MAPPER 读写缓冲区的回收策略，可选策略见 {@link JacksonRecyclerPools}
+     *
+     * @param recyclerPool 回收池
+     */
+    public static void setRecyclerPool(RecyclerPool<BufferRecycler> recyclerPool) {
+        OBJECT_MAPPER.getFactory().setRecyclerPool(recyclerPool);
+        // 按命名策略复制出来的 ObjectMapper 持有旧的回收池，需要重新构建
+        JacksonRegistry.clear();
+    }
+
+    /**
+     * 丢弃基于 OBJECT_MAPPER 构建的所有缓存：各选项的 ObjectWriter / ObjectReader、按命名策略与数据格式复制的 ObjectMapper、
+     * 类型绑定的 ObjectReader
+     * <p>
+     * 运行时修改了 OBJECT_MAPPER 的配置（注册模块、开关特性等）后需要调用；直接替换 OBJECT_MAPPER 时缓存自动失效，不需要调用
+     */
+    public static void resetCaches() {
+        JacksonRegistry.clear();
+    }
+
+    /**
+     * 设置 Date 与 java.time 的全局输出方式，默认格式化为字符串；单次调用使用 JacksonOptions.dateTimeMode
+     *
+     * @param mode 输出方式，比如 DateTimeMode.EPOCH_MILLIS 输出毫秒时间戳
+     */
+    public static void setDateTimeMode(DateTimeMode mode) {
+        DateTimes.setMode(mode);
+    }
+
+    /**
+     * 当前的全局输出方式
+     *
+     * @return 输出方式
+     */
+    public static DateTimeMode getDateTimeMode() {
+        return DateTimes.getMode();
+    }
+
+    /**
+     * 安装指标监听器，记录 parseObject、parseArray、parseJavaObject、convert、objectToString、objectToBytes 的
+     * 耗时、输入输出大小与目标类型，传入 null 取消
+     *
+     * @param listener 监听器，比如 {@link JacksonMetrics}、{@link JacksonMicrometerListener}
+     */
+    public static void setListener(JacksonListener listener) {
+        Jackson.listener = listener;
+    }
+
+    /**
+     * 当前的指标监听器
+     *
+     * @return 监听器，没有安装时为 null
+     */
+    public static JacksonListener getListener() {
+        return listener;
+    }
+
+    /**
+     * 执行一次调用，安装了监听器时记录耗时、输入输出大小
+     * <p>
+     * 有输入时 input 为 json 内容，作为监听器的 payload；没有输入时结果为 String、byte[] 的作为 payload
+     *
+     * @param operation 操作类型
+     * @param type      目标类型
+     * @param input     json 输入，没有时为 null
+     * @param action    异常信息中的操作描述，为 null 时原样抛出 RuntimeException
+     * @param call      调用
+     * @param <T>       结果类型
+     * @return 结果
+     */
+    private static <T> T timed(JacksonOperation operation, Type type, Object input, String action, Callable<T> call) {
+        if (input != null) {
+            return timed(operation, type, input, sizeOf(input), null, false, action, call);
+        }
+        return timed(operation, type, null, -1, Jackson::sizeOf, true, action, call);
+    }
+
+    /**
+     * 执行一次解析，输入不是完整的 json String、byte[] 时使用，比如片段、ByteBuffer、流、二进制格式，没有 payload
+     *
+     * @param operation 操作类型
+     * @param type      目标类型
+     * @param inputSize 输入的字节数，未知时为 -1
+     * @param action    异常信息中的操作描述
+     * @param call      调用
+     * @param <T>       结果类型
+     * @return 结果
+     */
+    private static <T> T timedRead(JacksonOperation operation, Type type, long inputSize, String action, Callable<T> call) {
+        return timed(operation, type, null, inputSize, null, false, action, call);
+    }
+
+    /**
+     * 执行一次写入，结果不是 json 内容，不作为监听器的 payload
+     *
+     * @param operation  操作类型
+     * @param type       目标类型
+     * @param outputSize 根据结果计算输出的字节数，为 null 时输出大小未知，记录为 -1
+     * @param action     异常信息中的操作描述，为 null 时原样抛出 RuntimeException
+     * @param call       调用
+     * @param <T>        结果类型
+     * @return 结果
+     */
+    private static <T> T timedWrite(JacksonOperation operation, Type type, ToLongFunction<? super T> outputSize, String action, Callable<T> call) {
+        return timed(operation, type, null, -1, outputSize == null ? result -> -1 : outputSize, false, action, call);
+    }
+
+    /**
+     * outputSize 为 null 时记录输入，否则记录输出
+     */
+    private static <T> T timed(JacksonOperation operation, Type type, Object input, long inputSize,
+                               ToLongFunction<? super T> outputSize, boolean resultAsPayload, String action, Callable<T> call) {
+        JacksonListener listener = Jackson.listener;
+        long start = listener == null ? 0 : System.nanoTime();
+        T result;
+        try {
+            result = call.call();
+        } catch (Exception e) {
+            if (listener != null) {
+                listener.onFailure(operation, type, System.nanoTime() - start, inputSize, e);
+            }
+            if (action == null && e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
+            throw new RuntimeException("[Jackson]" + action + "时发生异常，msg:" + e.getMessage());
+        }
+
+        if (listener != null) {
+            long nanos = System.nanoTime() - start;
+            if (outputSize == null) {
+                listener.onSuccess(operation, type, nanos, inputSize, -1, input);
+            } else {
+                long size = outputSize.applyAsLong(result);
+                listener.onSuccess(operation, type, nanos, -1, size, resultAsPayload && size >= 0 ? result : null);
+            }
+        }
+        return result;
+    }
+
+    private static long sizeOf(Object payload) {
+        if (payload instanceof String) {
+            return ((String) payload).length();
+        }
+        if (payload instanceof byte[]) {
+            return ((byte[]) payload).length;
+        }
+        return -1;
+    }
+
+    private static Type typeOf(Object object) {
+        return object == null ? null : object.getClass();
+    }
+
+    /**
+     * java 对象转化成封装的 JacksonObject 对象
+     *
+     * @param value java 对象，不能传递 String 或其它一些基础的变量
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject convertObject(Object value) {
+        return timed(JacksonOperation.CONVERT, JacksonObject.class, null, null,
+                () -> OBJECT_MAPPER.convertValue(value, JacksonObject.class));
+    }
+
+    /**
+     * java 对象转化成封装的 JacksonArray 对象
+     *
+     * @param value java 对象，不能传递 String 或其它一些基础的变量
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray convertArray(Object value) {
+        return timed(JacksonOperation.CONVERT, JacksonArray.class, null, null,
+                () -> OBJECT_MAPPER.convertValue(value, JacksonArray.class));
+    }
+
+    /**
+     * json string 转化成封装 JacksonObject 对象
+     *
+     * @param text json string
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(String text) {
+        if (text == null) {
+            return new JacksonObject();
+        }
+
+        return timed(JacksonOperation.PARSE_OBJECT, JacksonObject.class, text, "JsonString转JacksonObject对象",
+                () -> new JacksonObject((ObjectNode) OBJECT_MAPPER.readTree(text)));
+    }
+
+    /**
+     * json 字节转化成封装 JacksonObject 对象
+     *
+     * @param bytes utf-8 等编码的 json 字节
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(byte[] bytes) {
+        if (bytes == null) {
+            return new JacksonObject();
+        }
+
+        return timed(JacksonOperation.PARSE_OBJECT, JacksonObject.class, bytes, "byte[]转JacksonObject对象",
+                () -> new JacksonObject((ObjectNode) OBJECT_MAPPER.readTree(bytes)));
+    }
+
+    /**
+     * json 字节的指定片段转化成封装 JacksonObject 对象
+     *
+     * @param bytes  json 字节
+     * @param offset 起始下标
+     * @param length 长度
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(byte[] bytes, int offset, int length) {
+        if (bytes == null) {
+            return new JacksonObject();
+        }
+
+        return timedRead(JacksonOperation.PARSE_OBJECT, JacksonObject.class, length, "byte[]转JacksonObject对象",
+                () -> new JacksonObject((ObjectNode) OBJECT_MAPPER.readTree(bytes, offset, length)));
+    }
+
+    /**
+     * json ByteBuffer 转化成封装 JacksonObject 对象
+     *
+     * @param buffer json 字节，读取 position 到 limit 之间的内容，不会修改 buffer 的 position
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(ByteBuffer buffer) {
+        if (buffer == null) {
+            return new JacksonObject();
+        }
+
+        return timedRead(JacksonOperation.PARSE_OBJECT, JacksonObject.class, buffer.remaining(), "ByteBuffer转JacksonObject对象", () -> {
+            try (JsonParser parser = createParser(buffer)) {
+                return new JacksonObject((ObjectNode) OBJECT_MAPPER.readTree(parser));
+            }
+        });
+    }
+
+    /**
+     * json 输入流转化成封装 JacksonObject 对象
+     *
+     * @param inputStream json 输入流，读取结束后关闭
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(InputStream inputStream) {
+        if (inputStream == null) {
+            return new JacksonObject();
+        }
+
+        return timedRead(JacksonOperation.PARSE_OBJECT, JacksonObject.class, -1, "InputStream转JacksonObject对象",
+                () -> new JacksonObject((ObjectNode) OBJECT_MAPPER.readTree(inputStream)));
+    }
+
+    /**
+     * json 字符输入流转化成封装 JacksonObject 对象
+     *
+     * @param reader json 字符输入流，读取结束后关闭
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(Reader reader) {
+        if (reader == null) {
+            return new JacksonObject();
+        }
+
+        return timedRead(JacksonOperation.PARSE_OBJECT, JacksonObject.class, -1, "Reader转JacksonObject对象",
+                () -> new JacksonObject((ObjectNode) OBJECT_MAPPER.readTree(reader)));
+    }
+
+    /**
+     * json 文件转化成封装 JacksonObject 对象
+     *
+     * @param path json 文件，不超过 1MB 时一次性读入，更大的文件流式读取
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(Path path) {
+        if (path == null) {
+            return new JacksonObject();
+        }
+
+        return timedRead(JacksonOperation.PARSE_OBJECT, JacksonObject.class, -1, "Path转JacksonObject对象", () -> {
+            try (JsonParser parser = createParser(path)) {
+                return new JacksonObject((ObjectNode) OBJECT_MAPPER.readTree(parser));
+            }
+        });
+    }
+
+    /**
+     * json string 按投影转化成封装 JacksonObject 对象，只保留指定的字段
+     * <p>
+     * 编译后的投影按字段集合缓存，每次调用仍需计算集合的哈希；热点路径建议使用 {@link JacksonProjection} 预编译的重载
+     *
+     * @param text   json string
+     * @param fields 保留的字段，使用 . 表示嵌套，比如 a.b、c
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(String text, Set<String> fields) {
+        return parseObject(text, JacksonProjection.cached(fields));
+    }
+
+    /**
+     * json string 按投影转化成封装 JacksonObject 对象，不需要的字段在分词阶段直接跳过
+     *
+     * @param text       json string
+     * @param projection 预编译的投影
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(String text, JacksonProjection projection) {
+        if (text == null) {
+            return new JacksonObject();
+        }
+
+        return timed(JacksonOperation.PARSE_OBJECT, JacksonObject.class, text, "JsonString转JacksonObject对象", () -> {
+            try (JsonParser parser = projection.filter(OBJECT_MAPPER.createParser(text))) {
+                return toJacksonObject(OBJECT_MAPPER.readTree(parser));
+            }
+        });
+    }
+
+    /**
+     * json 字节按投影转化成封装 JacksonObject 对象，不需要的字段在分词阶段直接跳过
+     *
+     * @param bytes      json 字节
+     * @param projection 预编译的投影
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(byte[] bytes, JacksonProjection projection) {
+        if (bytes == null) {
+            return new JacksonObject();
+        }
+
+        return timed(JacksonOperation.PARSE_OBJECT, JacksonObject.class, bytes, "byte[]转JacksonObject对象", () -> {
+            try (JsonParser parser = projection.filter(OBJECT_MAPPER.createParser(bytes))) {
+                return toJacksonObject(OBJECT_MAPPER.readTree(parser));
+            }
+        });
+    }
+
+    /**
+     * 投影后没有任何字段时返回空对象
+     */
+    private static JacksonObject toJacksonObject(JsonNode node) {
+        if (node == null || node.isMissingNode()) {
+            return new JacksonObject();
+        }
+        return new JacksonObject((ObjectNode) node);
+    }
+
+    /**
+     * json string 按需解析转化成封装 JacksonObject 对象
+     * <p>
+     * 只扫描一遍顶层字段并记录位置，读取字段时才解析对应的值，适合只读取少量字段的大对象。
+     * 没有修改过并且没有取出过对象、数组类型的字段时，toJsonString 直接输出原始内容
+     *
+     * @param text json string
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObjectLazy(String text) {
+        if (text == null) {
+            return new JacksonObject();
+        }
+
+        return timed(JacksonOperation.PARSE_OBJECT_LAZY, JacksonObject.class, text, "JsonString转JacksonObject对象", () -> {
+            char[] chars = text.toCharArray();
+            return new JacksonObject(new LazyObjectNode(OBJECT_MAPPER.getNodeFactory(), LazyFieldMap.scan(chars, 0, chars.length)));
+        });
+    }
+
+    /**
+     * json 字节按需解析转化成封装 JacksonObject 对象，字节数组会被引用，解析后不能再修改
+     *
+     * @param bytes json 字节
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObjectLazy(byte[] bytes) {
+        if (bytes == null) {
+            return new JacksonObject();
+        }
+
+        return parseObjectLazy(bytes, 0, bytes.length);
+    }
+
+    /**
+     * json 字节的指定片段按需解析转化成封装 JacksonObject 对象，字节数组会被引用，解析后不能再修改
+     * <p>
+     * 只有 UTF-8 编码按需解析，UTF-16、UTF-32 编码的内容直接完整解析
+     *
+     * @param bytes  json 字节
+     * @param offset 起始下标
+     * @param length 长度
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObjectLazy(byte[] bytes, int offset, int length) {
+        return timedRead(JacksonOperation.PARSE_OBJECT_LAZY, JacksonObject.class, length, "byte[]转JacksonObject对象", () -> {
+            LazyFieldMap fields = LazyFieldMap.scan(bytes, offset, length);
+            return new JacksonObject(fields != null
+                    ? new LazyObjectNode(OBJECT_MAPPER.getNodeFactory(), fields)
+                    : (ObjectNode) OBJECT_MAPPER.readTree(bytes, offset, length));
+        });
+    }
+
+    /**
+     * json string 转化成封装 parseArray 对象
+     *
+     * @param text json string
+     * @return 封装的 parseArray 对象
+     */
+    public static JacksonArray parseArray(String text) {
+        return timed(JacksonOperation.PARSE_ARRAY, JacksonArray.class, text, "String转JacksonArray",
+                () -> new JacksonArray((ArrayNode) OBJECT_MAPPER.readTree(text)));
+    }
+
+    /**
+     * json 字节转化成封装 JacksonArray 对象
+     *
+     * @param bytes utf-8 等编码的 json 字节
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray parseArray(byte[] bytes) {
+        return timed(JacksonOperation.PARSE_ARRAY, JacksonArray.class, bytes, "byte[]转JacksonArray",
+                () -> new JacksonArray((ArrayNode) OBJECT_MAPPER.readTree(bytes)));
+    }
+
+    /**
+     * json 字节的指定片段转化成封装 JacksonArray 对象
+     *
+     * @param bytes  json 字节
+     * @param offset 起始下标
+     * @param length 长度
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray parseArray(byte[] bytes, int offset, int length) {
+        return timedRead(JacksonOperation.PARSE_ARRAY, JacksonArray.class, length, "byte[]转JacksonArray",
+                () -> new JacksonArray((ArrayNode) OBJECT_MAPPER.readTree(bytes, offset, length)));
+    }
+
+    /**
+     * json ByteBuffer 转化成封装 JacksonArray 对象
+     *
+     * @param buffer json 字节，读取 position 到 limit 之间的内容，不会修改 buffer 的 position
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray parseArray(ByteBuffer buffer) {
+        return timedRead(JacksonOperation.PARSE_ARRAY, JacksonArray.class, buffer.remaining(), "ByteBuffer转JacksonArray", () -> {
+            try (JsonParser parser = createParser(buffer)) {
+                return new JacksonArray((ArrayNode) OBJECT_MAPPER.readTree(parser));
+            }
+        });
+    }
+
+    /**
+     * json 输入流转化成封装 JacksonArray 对象
+     *
+     * @param inputStream json 输入流，读取结束后关闭
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray parseArray(InputStream inputStream) {
+        return timedRead(JacksonOperation.PARSE_ARRAY, JacksonArray.class, -1, "InputStream转JacksonArray",
+                () -> new JacksonArray((ArrayNode) OBJECT_MAPPER.readTree(inputStream)));
+    }
+
+    /**
+     * json 字符输入流转化成封装 JacksonArray 对象
+     *
+     * @param reader json 字符输入流，读取结束后关闭
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray parseArray(Reader reader) {
+        return timedRead(JacksonOperation.PARSE_ARRAY, JacksonArray.class, -1, "Reader转JacksonArray",
+                () -> new JacksonArray((ArrayNode) OBJECT_MAPPER.readTree(reader)));
+    }
+
+    /**
+     * json 文件转化成封装 JacksonArray 对象
+     *
+     * @param path json 文件，不超过 1MB 时一次性读入，更大的文件流式读取
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray parseArray(Path path) {
+        return timedRead(JacksonOperation.PARSE_ARRAY, JacksonArray.class, -1, "Path转JacksonArray", () -> {
+            try (JsonParser parser = createParser(path)) {
+                return new JacksonArray((ArrayNode) OBJECT_MAPPER.readTree(parser));
+            }
+        });
+    }
+
+    /**
+     * 逐个元素读取 json 数组，返回惰性迭代器
+     * <p>
+     * 每次只构建一个元素，适合读取很大的数组文件。遍历结束后自动关闭输入流，提前结束时需要调用 close
+     *
+     * @param inputStream json 数组输入流，元素必须是 json 对象
+     * @return 惰性迭代器
+     */
+    public static JacksonArrayIterator iterateArray(InputStream inputStream) {
+        try {
+            return new JacksonArrayIterator(OBJECT_MAPPER.createParser(inputStream));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]流式读取JacksonArray时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 逐个元素读取 json 数组，返回惰性 Stream
+     * <p>
+     * 每次只构建一个元素，适合读取很大的数组文件。建议配合 try-with-resources 使用，关闭 Stream 时关闭输入流
+     *
+     * @param inputStream json 数组输入流，元素必须是 json 对象
+     * @return 惰性 Stream
+     */
+    public static Stream<JacksonObject> streamArray(InputStream inputStream) {
+        return toStream(iterateArray(inputStream));
+    }
+
+    /**
+     * 读取 NDJSON（JSON Lines），每一行是一个 json 对象
+     * <p>
+     * 所有记录共用一个 JsonParser，遍历结束后自动关闭输入流，提前结束时需要调用 close
+     *
+     * @param inputStream NDJSON 输入流
+     * @return 惰性迭代器
+     */
+    public static JacksonLineReader readLines(InputStream inputStream) {
+        try {
+            return new JacksonLineReader(OBJECT_MAPPER.createParser(inputStream));
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]读取NDJSON时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取 NDJSON（JSON Lines）文件，每一行是一个 json 对象
+     *
+     * @param path NDJSON 文件
+     * @return 惰性迭代器
+     */
+    public static JacksonLineReader readLines(Path path) {
+        try {
+            return readLines(Files.newInputStream(path));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]读取NDJSON时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 读取 NDJSON（JSON Lines），返回惰性 Stream，关闭 Stream 时关闭输入流
+     *
+     * @param inputStream NDJSON 输入流
+     * @return 惰性 Stream
+     */
+    public static Stream<JacksonObject> streamLines(InputStream inputStream) {
+        return toStream(readLines(inputStream));
+    }
+
+    /**
+     * 读取 NDJSON（JSON Lines）文件，返回惰性 Stream，关闭 Stream 时关闭文件
+     *
+     * @param path NDJSON 文件
+     * @return 惰性 Stream
+     */
+    public static Stream<JacksonObject> streamLines(Path path) {
+        return toStream(readLines(path));
+    }
+
+    /**
+     * 创建 NDJSON（JSON Lines）写入器，关闭写入器时关闭输出流
+     *
+     * @param outputStream 输出流
+     * @return NDJSON 写入器
+     */
+    public static JacksonLineWriter lineWriter(OutputStream outputStream) {
+        try {
+            return new JacksonLineWriter(OBJECT_MAPPER.createGenerator(outputStream, JsonEncoding.UTF8));
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]创建NDJSON写入器时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 创建 NDJSON（JSON Lines）文件写入器，追加写入时传递 StandardOpenOption.CREATE, StandardOpenOption.APPEND
+     *
+     * @param path    NDJSON 文件
+     * @param options 文件打开方式，与 Files.newOutputStream 相同
+     * @return NDJSON 写入器
+     */
+    public static JacksonLineWriter lineWriter(Path path, OpenOption... options) {
+        try {
+            return lineWriter(Files.newOutputStream(path, options));
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]创建NDJSON写入器时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 在 ByteBuffer 上创建 JsonParser，堆内存直接使用底层数组，堆外内存按块读取，都不会修改 buffer 的 position
+     *
+     * @param buffer json 字节
+     * @return JsonParser
+     * @throws IOException 异常
+     */
+    private static JsonParser createParser(ByteBuffer buffer) throws IOException {
+        if (buffer.hasArray()) {
+            return OBJECT_MAPPER.createParser(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+        }
+        return OBJECT_MAPPER.createParser(new ByteBufferBackedInputStream(buffer.duplicate()));
+    }
+
+    /**
+     * 在文件上创建 JsonParser，直接解析 utf-8 字节，不会生成中间的 String
+     * <p>
+     * 小文件一次性读入后在字节数组上解析；大文件流式读取，parser 按块把文件读入自己的输入缓冲区，内存占用与文件大小无关。
+     * 不使用内存映射：parser 只能从 InputStream 按块复制，映射并不能省去这次复制，还会带来映射内存的释放时机问题与 2GB 上限
+     *
+     * @param path json 文件
+     * @return JsonParser
+     * @throws IOException 异常
+     */
+    private static JsonParser createParser(Path path) throws IOException {
+        if (Files.size(path) <= READ_ALL_THRESHOLD) {
+            return OBJECT_MAPPER.createParser(Files.readAllBytes(path));
+        }
+        return OBJECT_MAPPER.createParser(Files.newInputStream(path));
+    }
+
+    private static <I extends Iterator<JacksonObject> & Closeable> Stream<JacksonObject> toStream(I iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator,
+                Spliterator.ORDERED | Spliterator.NONNULL), false).onClose(() -> {
+            try {
+                iterator.close();
+            } catch (Exception e) {
+                throw new RuntimeException("[Jackson]关闭数据来源时发生异常，msg:" + e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * java 对象转化.
+     *
+     * @param value java 对象
+     * @param type  转化类型
+     * @param <T>   模版
+     * @return 转化后对象
+     */
+    public static <T> T convert(Object value, Class<T> type) {
+        return timed(JacksonOperation.CONVERT, type, null, null,
+                () -> JacksonRegistry.<T>binding(type).convert(value));
+    }
+
+    /**
+     * java 对象转化
+     *
+     * @param value         java 对象
+     * @param typeReference 能够嵌套模版转化，比如 new TypeReference&lt;Map&lt;String,String&gt;&gt;(){}
+     * @param <T>           模版
+     * @return 转化后对象
+     */
+    public static <T> T convert(Object value, TypeReference<T> typeReference) {
+        return timed(JacksonOperation.CONVERT, typeReference.getType(), null, null,
+                () -> JacksonRegistry.<T>binding(typeReference.getType()).convert(value));
+    }
+
+    /**
+     * 获取类型绑定，跳过后续调用的类型解析与反序列化器查找，建议保存在静态常量中
+     *
+     * @param <T>  泛型
+     * @param type clazz
+     * @return 类型绑定
+     */
+    public static <T> JacksonBinding<T> binding(Class<T> type) {
+        return JacksonRegistry.binding(type);
+    }
+
+    /**
+     * 获取类型绑定，跳过后续调用的类型解析与反序列化器查找，建议保存在静态常量中
+     *
+     * @param <T>           泛型
+     * @param typeReference 嵌套类型，比如 new TypeReference&lt;List&lt;User&gt;&gt;(){}
+     * @return 类型绑定
+     */
+    public static <T> JacksonBinding<T> binding(TypeReference<T> typeReference) {
+        return JacksonRegistry.binding(typeReference.getType());
+    }
+
+    /**
+     * 预热类型的序列化器与反序列化器，建议在服务启动、接收流量之前调用
+     *
+     * @param types 类型
+     * @return 每个类型的预热耗时
+     */
+    public static JacksonPrewarmReport prewarm(Class<?>... types) {
+        return JacksonPrewarmer.prewarm(Arrays.asList(types), false);
+    }
+
+    /**
+     * 预热嵌套类型的序列化器与反序列化器，建议在服务启动、接收流量之前调用
+     *
+     * @param typeReferences 嵌套类型，比如 new TypeReference&lt;List&lt;User&gt;&gt;(){}
+     * @return 每个类型的预热耗时
+     */
+    public static JacksonPrewarmReport prewarm(TypeReference<?>... typeReferences) {
+        List<Type> types = new ArrayList<>(typeReferences.length);
+        for (TypeReference<?> typeReference : typeReferences) {
+            types.add(typeReference.getType());
+        }
+        return JacksonPrewarmer.prewarm(types, false);
+    }
+
+    /**
+     * 预热类型的序列化器与反序列化器
+     *
+     * @param types    类型，Class 或者 TypeReference.getType()
+     * @param parallel 是否在公共 ForkJoinPool 中并行预热
+     * @return 每个类型的预热耗时
+     */
+    public static JacksonPrewarmReport prewarm(Collection<? extends Type> types, boolean parallel) {
+        return JacksonPrewarmer.prewarm(new ArrayList<>(types), parallel);
+    }
+
+    /**
+     * 扫描包（包括子包）下的类并预热，跳过接口、抽象类、匿名类、非静态内部类
+     *
+     * @param basePackage 包名，比如 com.example.dto
+     * @param parallel    是否在公共 ForkJoinPool 中并行预热
+     * @return 每个类型的预热耗时
+     */
+    public static JacksonPrewarmReport prewarmPackage(String basePackage, boolean parallel) {
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        if (classLoader == null) {
+            classLoader = Jackson.class.getClassLoader();
+        }
+        return JacksonPrewarmer.prewarm(JacksonPrewarmer.scan(basePackage, classLoader), parallel);
+    }
+
+    /**
+     * java 对象转化成 json string
+     *
+     * @param object java 对象
+     * @return json string
+     */
+    public static String objectToString(Object object) {
+        return timed(JacksonOperation.OBJECT_TO_STRING, typeOf(object), null, "对象转JsonString",
+                () -> OBJECT_MAPPER.writeValueAsString(object));
+    }
+
+    /**
+     * java 对象转化成 json string 带缩进
+     *
+     * @param object java 对象
+     * @return json string pretty
+     */
+    public static String objectToStringPretty(Object object) {
+        return timed(JacksonOperation.OBJECT_TO_STRING, typeOf(object), null, "对象转JsonString",
+                () -> writer(JacksonOptions.PRETTY).writeValueAsString(object));
+    }
+
+    /**
+     * java 对象转 自定义命名策略 json string
+     * 使用 PropertyNamingStrategies指定属性命名策略，例如UPPER_SNAKE_CASE，注解@JsonProperty优先级任然更高
+     *
+     * @param object java 对象
+     * @param propertyNamingStrategy 命名策略
+     * @return json string
+     */
+    public static String objectToString(Object object, PropertyNamingStrategy propertyNamingStrategy) {
+        return objectToString(object, JacksonOptions.DEFAULT.namingStrategy(propertyNamingStrategy));
+    }
+
+    /**
+     * java 对象按指定选项转化成 json string
+     *
+     * @param object  java 对象
+     * @param options 选项，建议定义为静态常量复用
+     * @return json string
+     */
+    public static String objectToString(Object object, JacksonOptions options) {
+        return timed(JacksonOperation.OBJECT_TO_STRING, typeOf(object), null, "对象转JsonString",
+                () -> writer(options).writeValueAsString(object));
+    }
+
+    /**
+     * 获取指定选项的 ObjectWriter
+     * <p>
+     * 相同选项的 ObjectWriter 只会构建一次，线程安全，可以直接使用或继续派生
+     *
+     * @param options 选项
+     * @return ObjectWriter
+     */
+    public static ObjectWriter writer(JacksonOptions options) {
+        return JacksonRegistry.writer(options);
+    }
+
+    /**
+     * 获取指定选项的 ObjectReader
+     * <p>
+     * 相同选项的 ObjectReader 只会构建一次，线程安全，使用 forType 指定目标类型
+     *
+     * @param options 选项
+     * @return ObjectReader
+     */
+    public static ObjectReader reader(JacksonOptions options) {
+        return JacksonRegistry.reader(options);
+    }
+
+
+    /**
+     * json string 转化成 java 对象
+     *
+     * @param <T> 类型
+     * @param text json string
+     * @param typeReference 嵌套类型
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(String text, TypeReference<T> typeReference) {
+        return timed(JacksonOperation.PARSE_JAVA_OBJECT, typeReference.getType(), text, "String转Java对象",
+                () -> JacksonRegistry.<T>binding(typeReference.getType()).getReader().readValue(text));
+    }
+
+
+    /**
+     * json 字节转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param bytes utf-8 等编码的 json 字节
+     * @param typeReference 嵌套类型
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(byte[] bytes, TypeReference<T> typeReference) {
+        return timed(JacksonOperation.PARSE_JAVA_OBJECT, typeReference.getType(), bytes, "byte[]转Java对象",
+                () -> JacksonRegistry.<T>binding(typeReference.getType()).getReader().readValue(bytes));
+    }
+
+    /**
+     * json 字节的指定片段转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param bytes  json 字节
+     * @param offset 起始下标
+     * @param length 长度
+     * @param typeReference 嵌套类型
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(byte[] bytes, int offset, int length, TypeReference<T> typeReference) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, typeReference.getType(), length, "byte[]转Java对象",
+                () -> JacksonRegistry.<T>binding(typeReference.getType()).getReader().readValue(bytes, offset, length));
+    }
+
+    /**
+     * json ByteBuffer 转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param buffer json 字节，读取 position 到 limit 之间的内容，不会修改 buffer 的 position
+     * @param typeReference 嵌套类型
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(ByteBuffer buffer, TypeReference<T> typeReference) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, typeReference.getType(), buffer.remaining(), "ByteBuffer转Java对象", () -> {
+            try (JsonParser parser = createParser(buffer)) {
+                return JacksonRegistry.<T>binding(typeReference.getType()).getReader().readValue(parser);
+            }
+        });
+    }
+
+    /**
+     * json 输入流转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param inputStream json 输入流，读取结束后关闭
+     * @param typeReference 嵌套类型
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(InputStream inputStream, TypeReference<T> typeReference) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, typeReference.getType(), -1, "InputStream转Java对象",
+                () -> JacksonRegistry.<T>binding(typeReference.getType()).getReader().readValue(inputStream));
+    }
+
+    /**
+     * json 字符输入流转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param reader json 字符输入流，读取结束后关闭
+     * @param typeReference 嵌套类型
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(Reader reader, TypeReference<T> typeReference) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, typeReference.getType(), -1, "Reader转Java对象",
+                () -> JacksonRegistry.<T>binding(typeReference.getType()).getReader().readValue(reader));
+    }
+
+    /**
+     * json 文件转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param path json 文件，不超过 1MB 时一次性读入，更大的文件流式读取
+     * @param typeReference 嵌套类型
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(Path path, TypeReference<T> typeReference) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, typeReference.getType(), -1, "Path转Java对象", () -> {
+            try (JsonParser parser = createParser(path)) {
+                return JacksonRegistry.<T>binding(typeReference.getType()).getReader().readValue(parser);
+            }
+        });
+    }
+
+    /**
+     * json string 转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param text json string
+     * @param type clazz
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(String text, Class<T> type) {
+        return timed(JacksonOperation.PARSE_JAVA_OBJECT, type, text, "String转Java对象",
+                () -> JacksonRegistry.<T>binding(type).getReader().readValue(text));
+    }
+
+    /**
+     * json 字节转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param bytes utf-8 等编码的 json 字节
+     * @param type clazz
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(byte[] bytes, Class<T> type) {
+        return timed(JacksonOperation.PARSE_JAVA_OBJECT, type, bytes, "byte[]转Java对象",
+                () -> JacksonRegistry.<T>binding(type).getReader().readValue(bytes));
+    }
+
+    /**
+     * json 字节的指定片段转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param bytes  json 字节
+     * @param offset 起始下标
+     * @param length 长度
+     * @param type clazz
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(byte[] bytes, int offset, int length, Class<T> type) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, type, length, "byte[]转Java对象",
+                () -> JacksonRegistry.<T>binding(type).getReader().readValue(bytes, offset, length));
+    }
+
+    /**
+     * json ByteBuffer 转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param buffer json 字节，读取 position 到 limit 之间的内容，不会修改 buffer 的 position
+     * @param type clazz
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(ByteBuffer buffer, Class<T> type) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, type, buffer.remaining(), "ByteBuffer转Java对象", () -> {
+            try (JsonParser parser = createParser(buffer)) {
+                return JacksonRegistry.<T>binding(type).getReader().readValue(parser);
+            }
+        });
+    }
+
+    /**
+     * json 输入流转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param inputStream json 输入流，读取结束后关闭
+     * @param type clazz
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(InputStream inputStream, Class<T> type) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, type, -1, "InputStream转Java对象",
+                () -> JacksonRegistry.<T>binding(type).getReader().readValue(inputStream));
+    }
+
+    /**
+     * json 字符输入流转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param reader json 字符输入流，读取结束后关闭
+     * @param type clazz
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(Reader reader, Class<T> type) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, type, -1, "Reader转Java对象",
+                () -> JacksonRegistry.<T>binding(type).getReader().readValue(reader));
+    }
+
+    /**
+     * json 文件转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param path json 文件，不超过 1MB 时一次性读入，更大的文件流式读取
+     * @param type clazz
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(Path path, Class<T> type) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, type, -1, "Path转Java对象", () -> {
+            try (JsonParser parser = createParser(path)) {
+                return JacksonRegistry.<T>binding(type).getReader().readValue(parser);
+            }
+        });
+    }
+
+    /**
+     * json string 按指定选项转化成 java 对象
+     *
+     * @param <T> 泛型
+     * @param text json string
+     * @param type clazz
+     * @param options 选项，建议定义为静态常量复用
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(String text, Class<T> type, JacksonOptions options) {
+        return timed(JacksonOperation.PARSE_JAVA_OBJECT, type, text, "String转Java对象",
+                () -> reader(options).forType(type).readValue(text));
+    }
+
+    /**
+     * json string 转化成 byte 数组
+     *
+     * @param object java 对象
+     * @return byte 数组
+     */
+    public static byte[] objectToBytes(Object object) {
+        return timed(JacksonOperation.OBJECT_TO_BYTES, typeOf(object), null, "对象转byte[]",
+                () -> OBJECT_MAPPER.writeValueAsBytes(object));
+    }
+
+    /**
+     * java 对象转化成指定格式的 byte 数组
+     *
+     * @param object java 对象
+     * @param format 数据格式，比如 JacksonFormat.SMILE、JacksonFormat.CBOR
+     * @return byte 数组
+     */
+    public static byte[] objectToBytes(Object object, JacksonFormat format) {
+        return timedWrite(JacksonOperation.OBJECT_TO_BYTES, typeOf(object), bytes -> bytes.length, "对象转" + format,
+                () -> JacksonRegistry.mapper(format).writeValueAsBytes(object));
+    }
+
+    /**
+     * java 对象按指定格式序列化后写入输出流，不会关闭输出流
+     *
+     * @param object       java 对象
+     * @param outputStream 输出流
+     * @param format       数据格式
+     */
+    public static void objectToStream(Object object, OutputStream outputStream, JacksonFormat format) {
+        timedWrite(JacksonOperation.OBJECT_TO_STREAM, typeOf(object), null, "对象写入OutputStream", () -> {
+            ObjectMapper objectMapper = JacksonRegistry.mapper(format);
+            try (JsonGenerator generator = objectMapper.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+                objectMapper.writeValue(generator, object);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 指定格式的 byte 数组转化成封装 JacksonObject 对象
+     *
+     * @param bytes  字节
+     * @param format 数据格式
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(byte[] bytes, JacksonFormat format) {
+        if (bytes == null) {
+            return new JacksonObject();
+        }
+
+        return timedRead(JacksonOperation.PARSE_OBJECT, JacksonObject.class, bytes.length, format + "转JacksonObject对象",
+                () -> new JacksonObject((ObjectNode) JacksonRegistry.mapper(format).readTree(bytes)));
+    }
+
+    /**
+     * 指定格式的输入流转化成封装 JacksonObject 对象
+     *
+     * @param inputStream 输入流，读取结束后关闭
+     * @param format      数据格式
+     * @return 封装的 JacksonObject 对象
+     */
+    public static JacksonObject parseObject(InputStream inputStream, JacksonFormat format) {
+        if (inputStream == null) {
+            return new JacksonObject();
+        }
+
+        return timedRead(JacksonOperation.PARSE_OBJECT, JacksonObject.class, -1, format + "转JacksonObject对象",
+                () -> new JacksonObject((ObjectNode) JacksonRegistry.mapper(format).readTree(inputStream)));
+    }
+
+    /**
+     * 指定格式的 byte 数组转化成封装 JacksonArray 对象
+     *
+     * @param bytes  字节
+     * @param format 数据格式
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray parseArray(byte[] bytes, JacksonFormat format) {
+        return timedRead(JacksonOperation.PARSE_ARRAY, JacksonArray.class, bytes.length, format + "转JacksonArray",
+                () -> new JacksonArray((ArrayNode) JacksonRegistry.mapper(format).readTree(bytes)));
+    }
+
+    /**
+     * 指定格式的 byte 数组转化成 java 对象
+     *
+     * @param <T>    泛型
+     * @param bytes  字节
+     * @param type   clazz
+     * @param format 数据格式
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(byte[] bytes, Class<T> type, JacksonFormat format) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, type, bytes.length, format + "转Java对象",
+                () -> JacksonRegistry.mapper(format).readValue(bytes, type));
+    }
+
+    /**
+     * 指定格式的 byte 数组转化成 java 对象
+     *
+     * @param <T>           泛型
+     * @param bytes         字节
+     * @param typeReference 嵌套类型
+     * @param format        数据格式
+     * @return java 对象
+     */
+    public static <T> T parseJavaObject(byte[] bytes, TypeReference<T> typeReference, JacksonFormat format) {
+        return timedRead(JacksonOperation.PARSE_JAVA_OBJECT, typeReference.getType(), bytes.length, format + "转Java对象",
+                () -> JacksonRegistry.mapper(format).readValue(bytes, typeReference));
+    }
+
+    /**
+     * java 对象序列化后写入输出流，不会关闭输出流
+     *
+     * @param object       java 对象
+     * @param outputStream 输出流
+     */
+    public static void objectToStream(Object object, OutputStream outputStream) {
+        timedWrite(JacksonOperation.OBJECT_TO_STREAM, typeOf(object), null, "对象写入OutputStream", () -> {
+            try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                writeTo(generator, object);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * java 对象序列化后写入字符输出流，不会关闭字符输出流
+     *
+     * @param object java 对象
+     * @param writer 字符输出流
+     */
+    public static void objectToWriter(Object object, Writer writer) {
+        timedWrite(JacksonOperation.OBJECT_TO_WRITER, typeOf(object), null, "对象写入Writer", () -> {
+            try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(writer)) {
+                writeTo(generator, object);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * java 对象序列化后从 position 开始写入调用方提供的 ByteBuffer，支持堆外内存
+     * <p>
+     * 剩余空间不足时 position 恢复原值并抛出 BufferOverflowException，调用方可以扩容后重试
+     *
+     * @param object java 对象
+     * @param buffer 输出目标
+     * @return 写入的字节数
+     */
+    public static int objectToBuffer(Object object, ByteBuffer buffer) {
+        // BufferOverflowException 原样抛出，调用方可以扩容后重试
+        return timedWrite(JacksonOperation.OBJECT_TO_BUFFER, typeOf(object), Integer::longValue, null, () -> {
+            int start = buffer.position();
+            try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(new ByteBufferOutputStream(buffer), JsonEncoding.UTF8)) {
+                writeTo(generator, object);
+            } catch (Exception e) {
+                buffer.position(start);
+                for (Throwable t = e; t != null; t = t.getCause()) {
+                    if (t instanceof BufferOverflowException) {
+                        throw (BufferOverflowException) t;
+                    }
+                }
+                throw new RuntimeException("[Jackson]对象写入ByteBuffer时发生异常，msg:" + e.getMessage());
+            }
+            return buffer.position() - start;
+        });
+    }
+
+    /**
+     * java 对象序列化后写入 channel，不会关闭 channel
+     *
+     * @param object  java 对象
+     * @param channel 阻塞模式的 channel，比如 FileChannel、SocketChannel
+     */
+    public static void objectToChannel(Object object, WritableByteChannel channel) {
+        timedWrite(JacksonOperation.OBJECT_TO_CHANNEL, typeOf(object), null, "对象写入Channel", () -> {
+            try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(Channels.newOutputStream(channel), JsonEncoding.UTF8)) {
+                writeTo(generator, object);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * java 对象序列化后从指定位置异步写入文件，不会关闭 channel
+     * <p>
+     * JsonGenerator 直接写入自动扩容的 ByteBuffer，不生成中间的 byte 数组；
+     * 序列化或写入失败时返回的 future 异常完成，不会直接抛出异常
+     *
+     * @param object   java 对象
+     * @param channel  异步文件 channel
+     * @param position 文件中的写入位置
+     * @return 写入完成后得到写入的字节数
+     */
+    public static CompletableFuture<Integer> objectToChannel(Object object, AsynchronousFileChannel channel, long position) {
+        CompletableFuture<Integer> future = new CompletableFuture<>();
+        try {
+            // 只记录序列化，写入文件的耗时由调用方通过 future 获取
+            ByteBuffer buffer = timedWrite(JacksonOperation.OBJECT_TO_CHANNEL, typeOf(object), ByteBuffer::remaining, "对象写入AsynchronousFileChannel", () -> {
+                ByteBufferOutputStream outputStream = ByteBufferOutputStream.growable(ASYNC_BUFFER_SIZE);
+                try (JsonGenerator generator = OBJECT_MAPPER.createGenerator(outputStream, JsonEncoding.UTF8)) {
+                    writeTo(generator, object);
+                }
+                return outputStream.toBuffer();
+            });
+            channel.write(buffer, position, future, new AsyncWriteHandler(channel, buffer, position));
+        } catch (Exception e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    /**
+     * 使用不关闭输出目标的 JsonGenerator 写入对象
+     *
+     * @param generator JsonGenerator
+     * @param object    java 对象
+     * @throws IOException 异常
+     */
+    private static void writeTo(JsonGenerator generator, Object object) throws IOException {
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        OBJECT_MAPPER.writeValue(generator, object);
+    }
+
+    /**
+     * 异步写入文件，一次没有写完时从新的位置继续写入
+     */
+    private static final class AsyncWriteHandler implements CompletionHandler<Integer, CompletableFuture<Integer>> {
+        private final AsynchronousFileChannel channel;
+        private final ByteBuffer buffer;
+        private final long position;
+
+        private AsyncWriteHandler(AsynchronousFileChannel channel, ByteBuffer buffer, long position) {
+            this.channel = channel;
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        @Override
+        public void completed(Integer result, CompletableFuture<Integer> future) {
+            if (buffer.hasRemaining()) {
+                channel.write(buffer, position + buffer.position(), future, this);
+            } else {
+                future.complete(buffer.limit());
+            }
+        }
+
+        @Override
+        public void failed(Throwable exc, CompletableFuture<Integer> future) {
+            future.completeExceptionally(exc);
+        }
+    }
+
+    /**
+     * 转化成 json string
+     *
+     * @return json string
+     */
+    public String toJsonString() {
+        return objectToString(this);
+    }
+
+    /**
+     * 转化成指定格式的 byte 数组
+     *
+     * @param format 数据格式，比如 JacksonFormat.SMILE、JacksonFormat.CBOR
+     * @return byte 数组
+     */
+    public byte[] toBytes(JacksonFormat format) {
+        return objectToBytes(this, format);
+    }
+
+    /**
+     * 序列化后写入输出流，不会关闭输出流
+     *
+     * @param outputStream 输出流
+     */
+    public void writeJson(OutputStream outputStream) {
+        objectToStream(this, outputStream);
+    }
+
+    /**
+     * 序列化后写入字符输出流，不会关闭字符输出流
+     *
+     * @param writer 字符输出流
+     */
+    public void writeJson(Writer writer) {
+        objectToWriter(this, writer);
+    }
+
+    /**
+     * 序列化后写入调用方提供的 ByteBuffer，剩余空间不足时 position 恢复原值并抛出 BufferOverflowException
+     *
+     * @param buffer 输出目标，支持堆外内存
+     * @return 写入的字节数
+     */
+    public int writeJson(ByteBuffer buffer) {
+        return objectToBuffer(this, buffer);
+    }
+
+    /**
+     * 序列化后写入 channel，不会关闭 channel
+     *
+     * @param channel 阻塞模式的 channel
+     */
+    public void writeJson(WritableByteChannel channel) {
+        objectToChannel(this, channel);
+    }
+
+    /**
+     * 序列化后从指定位置异步写入文件，不会关闭 channel
+     *
+     * @param channel  异步文件 channel
+     * @param position 文件中的写入位置
+     * @return 写入完成后得到写入的字节数
+     */
+    public CompletableFuture<Integer> writeJson(AsynchronousFileChannel channel, long position) {
+        return objectToChannel(this, channel, position);
+    }
+
+    /**
+     * 转化成 json 对象
+     *
+     * @param <T> 泛型
+     * @param type 对象类型
+     * @return json 对象
+     */
+    public <T> T toJava(Class<T> type) {
+        return JacksonRegistry.<T>binding(type).convert(node());
+    }
+
+    /**
+     * 转化成 json 对象
+     *
+     * @param <T> 泛型
+     * @param typeReference 对象类型
+     * @return json 对象
+     */
+    public <T> T toJava(TypeReference<T> typeReference) {
+        return JacksonRegistry.<T>binding(typeReference.getType()).convert(node());
+    }
+
+    /**
+     * 被封装的节点，转化时直接从节点树绑定
+     *
+     * @return JsonNode，没有时返回自身
+     */
+    Object node() {
+        return this;
+    }
+
+    /**
+     * 复写 toString，默认输出 json string
+     *
+     * @return json string
+     */
+    @Override
+    public String toString() {
+        try {
+            return this.toJsonString();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package top.senseiliu.jackson;
+
+import com.fasterxml.jackson.databind.Module;
+
+/**
+ * OBJECT_MAPPER 的 bean 序列化加速
+ * <p>
+ * 默认的 bean 序列化器通过反射读写字段、调用 getter / setter，
+ * 开启加速后使用生成的访问器代替反射，POJO 较多的 parseJavaObject、convert、objectToString 吞吐量更高。
+ * <ul>
+ *     <li>blackbird：基于 LambdaMetafactory，jdk11+ 推荐使用，需要 jackson-module-blackbird</li>
+ *     <li>afterburner：基于字节码生成，适合 jdk8，需要 jackson-module-afterburner</li>
+ *     <li>auto：jdk9+ 使用 blackbird，否则使用 afterburner，依赖不存在时依次尝试另一个</li>
+ *     <li>none：不加速</li>
+ * </ul>
+ * 无法优化的类（比如私有类、自定义序列化器、非 public 的访问器）会自动回退到默认的反射实现，行为与不加速时一致。
+ * <p>
+ * 默认不开启，启动时通过系统属性 {@value #PROPERTY} 指定；对应依赖不存在时忽略，不影响启动
+ *
+ * @author liuguanliang
+ */
+public final class JacksonAccelerators {
+    /**
+     * 指定加速方式的系统属性
+     */
+    public static final String PROPERTY = "jackson.common.accelerator";
+
+    private static final String BLACKBIRD = "com.fasterxml.jackson.module.blackbird.BlackbirdModule";
+    private static final String AFTERBURNER = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    private JacksonAccelerators() {
+    }
+
+    /**
+     * blackbird 模块
+     *
+     * @return 模块，依赖不存在时返回 null
+     */
+    public static Module blackbird() {
+        return newModule(BLACKBIRD);
+    }
+
+    /**
+     * afterburner 模块
+     *
+     * @return 模块，依赖不存在时返回 null
+     */
+    public static Module afterburner() {
+        return newModule(AFTERBURNER);
+    }
+
+    /**
+     * 按当前 jdk 版本选择模块
+     *
+     * @return 模块，依赖都不存在时返回 null
+     */
+    public static Module auto() {
+        Module module = isJava9OrLater() ? blackbird() : afterburner();
+        if (module == null) {
+            module = isJava9OrLater() ? afterburner() : blackbird();
+        }
+        return module;
+    }
+
+    /**
+     * 通过名称获取模块
+     *
+     * @param name blackbird、afterburner、auto、none
+     * @return 模块，none 或者依赖不存在时返回 null
+     */
+    public static Module of(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "blackbird":
+                return blackbird();
+            case "afterburner":
+                return afterburner();
+            case "auto":
+                return auto();
+            case "none":
+                return null;
+            default:
+                throw new IllegalArgumentException("[Jackson]未知的序列化加速方式:" + name);
+        }
+    }
+
+    private static Module newModule(String className) {
+        try {
+            return (Module) Class.forName(className).getConstructor().newInstance();
+        } catch (ClassNotFoundException | NoClassDefFoundError e) {
+            return null;
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]创建" + className + "时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    private static boolean isJava9OrLater() {
+        String version = System.getProperty("java.specification.version", "1.8");
+        return !version.startsWith("1.");
+    }
+}
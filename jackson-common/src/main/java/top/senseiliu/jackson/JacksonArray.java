@@ -8,7 +8,6 @@ import java.util.Collection;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
@@ -44,6 +43,11 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
         return arrayNode;
     }
 
+    @Override
+    Object node() {
+        return arrayNode;
+    }
+
     /**
      * 反序列化指定函数
      *
@@ -72,6 +76,36 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
         this.arrayNode = OBJECT_MAPPER.createArrayNode();
     }
 
+    /**
+     * 使用 int 数组创建，元素存储在基本类型数组中，不创建 IntNode
+     *
+     * @param values 元素
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray ofInts(int... values) {
+        return new JacksonArray(JacksonArrayNode.ofInts(OBJECT_MAPPER.getNodeFactory(), values));
+    }
+
+    /**
+     * 使用 long 数组创建，元素存储在基本类型数组中，不创建 LongNode
+     *
+     * @param values 元素
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray ofLongs(long... values) {
+        return new JacksonArray(JacksonArrayNode.ofLongs(OBJECT_MAPPER.getNodeFactory(), values));
+    }
+
+    /**
+     * 使用 double 数组创建，元素存储在基本类型数组中，不创建 DoubleNode
+     *
+     * @param values 元素
+     * @return 封装的 JacksonArray 对象
+     */
+    public static JacksonArray ofDoubles(double... values) {
+        return new JacksonArray(JacksonArrayNode.ofDoubles(OBJECT_MAPPER.getNodeFactory(), values));
+    }
+
     /**
      * 通过下标获取封装的 JacksonObject
      * <p>
@@ -108,7 +142,96 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public <T> T getObject(int index, Class<T> clazz) {
         JsonNode obj = arrayNode.get(index);
 
-        return OBJECT_MAPPER.convertValue(obj, clazz);
+        return JacksonRegistry.<T>binding(clazz).fromNode(obj);
+    }
+
+    /**
+     * 所有元素转化成 java 对象，使用缓存的 List 类型 ObjectReader 一次遍历整个节点树绑定
+     *
+     * @param <T> 泛型
+     * @param clazz clazz
+     * @return java 对象列表
+     */
+    public <T> List<T> toList(Class<T> clazz) {
+        return toList(JacksonRegistry.<T>binding(clazz));
+    }
+
+    /**
+     * 所有元素转化成 java 对象，使用缓存的 List 类型 ObjectReader 一次遍历整个节点树绑定
+     *
+     * @param <T> 泛型
+     * @param typeReference 元素类型，能够嵌套模版转化，比如 new TypeReference&lt;Map&lt;String, String&gt;&gt;(){}
+     * @return java 对象列表
+     */
+    public <T> List<T> toList(TypeReference<T> typeReference) {
+        return toList(JacksonRegistry.<T>binding(typeReference.getType()));
+    }
+
+    private <T> List<T> toList(JacksonBinding<T> binding) {
+        return binding.list().fromNode(arrayNode);
+    }
+
+    /**
+     * 所有元素转化成 int 数组，规则与 intValue(int) 相同
+     * <p>
+     * 元素使用基本类型数组存储时直接复制，不创建节点
+     *
+     * @return int 数组
+     */
+    public int[] toIntArray() {
+        if (arrayNode instanceof JacksonArrayNode) {
+            int[] array = ((JacksonArrayNode) arrayNode).toIntArray();
+            if (array != null) {
+                return array;
+            }
+        }
+        int[] array = new int[arrayNode.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = JacksonCoercion.toIntValue(arrayNode.get(i));
+        }
+        return array;
+    }
+
+    /**
+     * 所有元素转化成 long 数组，规则与 longValue(int) 相同
+     * <p>
+     * 元素使用基本类型数组存储时直接复制，不创建节点
+     *
+     * @return long 数组
+     */
+    public long[] toLongArray() {
+        if (arrayNode instanceof JacksonArrayNode) {
+            long[] array = ((JacksonArrayNode) arrayNode).toLongArray();
+            if (array != null) {
+                return array;
+            }
+        }
+        long[] array = new long[arrayNode.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = JacksonCoercion.toLongValue(arrayNode.get(i));
+        }
+        return array;
+    }
+
+    /**
+     * 所有元素转化成 double 数组，规则与 doubleValue(int) 相同
+     * <p>
+     * 元素使用基本类型数组存储时直接复制，不创建节点
+     *
+     * @return double 数组
+     */
+    public double[] toDoubleArray() {
+        if (arrayNode instanceof JacksonArrayNode) {
+            double[] array = ((JacksonArrayNode) arrayNode).toDoubleArray();
+            if (array != null) {
+                return array;
+            }
+        }
+        double[] array = new double[arrayNode.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = JacksonCoercion.toDoubleValue(arrayNode.get(i));
+        }
+        return array;
     }
 
     /**
@@ -122,7 +245,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public <T> T getObject(int index, TypeReference<T> typeReference) {
         JsonNode obj = arrayNode.get(index);
 
-        return OBJECT_MAPPER.convertValue(obj, typeReference);
+        return JacksonRegistry.<T>binding(typeReference.getType()).fromNode(obj);
     }
 
     /**
@@ -136,11 +259,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public boolean booleanValue(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.isBoolean()) {
-            return value.asBoolean();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, boolean.class);
+        return JacksonCoercion.toBooleanValue(value);
     }
 
     /**
@@ -154,11 +273,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public Boolean getBoolean(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.isBoolean()) {
-            return value.asBoolean();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Boolean.class);
+        return JacksonCoercion.toBoolean(value);
     }
 
     /**
@@ -187,11 +302,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public short shortValue(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.canConvertToInt()) {
-            return value.shortValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, short.class);
+        return JacksonCoercion.toShortValue(value);
     }
 
     /**
@@ -203,11 +314,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public Short getShort(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.canConvertToInt()) {
-            return value.shortValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Short.class);
+        return JacksonCoercion.toShort(value);
     }
 
     /**
@@ -219,11 +326,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public int intValue(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.canConvertToInt()) {
-            return value.intValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, int.class);
+        return JacksonCoercion.toIntValue(value);
     }
 
     /**
@@ -235,11 +338,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public Integer getInteger(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.canConvertToInt()) {
-            return value.intValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Integer.class);
+        return JacksonCoercion.toInteger(value);
     }
 
     /**
@@ -251,11 +350,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public long longValue(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.canConvertToLong()) {
-            return value.longValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, long.class);
+        return JacksonCoercion.toLongValue(value);
     }
 
     /**
@@ -267,11 +362,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public Long getLong(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.canConvertToLong()) {
-            return value.longValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Long.class);
+        return JacksonCoercion.toLong(value);
     }
 
     /**
@@ -283,11 +374,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public float floatValue(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.isFloatingPointNumber()) {
-            return value.floatValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, float.class);
+        return JacksonCoercion.toFloatValue(value);
     }
 
     /**
@@ -299,11 +386,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public Float getFloat(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.isFloatingPointNumber()) {
-            return value.floatValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Float.class);
+        return JacksonCoercion.toFloat(value);
     }
 
     /**
@@ -315,11 +398,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public double doubleValue(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.canConvertToInt()) {
-            return value.doubleValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, double.class);
+        return JacksonCoercion.toDoubleValue(value);
     }
 
     /**
@@ -331,11 +410,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public Double getDouble(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.canConvertToInt()) {
-            return value.doubleValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Double.class);
+        return JacksonCoercion.toDouble(value);
     }
 
     /**
@@ -347,11 +422,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public BigDecimal getBigDecimal(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.isBigDecimal()) {
-            return value.decimalValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, BigDecimal.class);
+        return JacksonCoercion.toBigDecimal(value);
     }
 
     /**
@@ -363,11 +434,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public BigInteger getBigInteger(int index) {
         JsonNode value = arrayNode.get(index);
 
-        if (value.canConvertToInt()) {
-            return value.bigIntegerValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, BigInteger.class);
+        return JacksonCoercion.toBigInteger(value);
     }
 
     /**
@@ -395,7 +462,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
     public Date getDateTime(int index) {
         JsonNode value = arrayNode.get(index);
 
-        return OBJECT_MAPPER.convertValue(value, Date.class);
+        return JacksonCoercion.toDate(value);
     }
 
     /**
@@ -444,21 +511,85 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
      */
     public JacksonArray add(Object... e) {
         for (Object o : e) {
-            arrayNode.add(OBJECT_MAPPER.valueToTree(o));
+            arrayNode.add(JacksonNodes.toNode(o));
         }
         return this;
     }
 
     /**
-     * 添加所有元素
+     * 添加元素
+     *
+     * @param e int
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray add(int e) {
+        arrayNode.add(e);
+        return this;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param e long
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray add(long e) {
+        arrayNode.add(e);
+        return this;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param e double
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray add(double e) {
+        arrayNode.add(e);
+        return this;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param e float
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray add(float e) {
+        arrayNode.add(e);
+        return this;
+    }
+
+    /**
+     * 添加元素，char 作为长度为 1 的字符串
+     *
+     * @param e char
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray add(char e) {
+        arrayNode.add(String.valueOf(e));
+        return this;
+    }
+
+    /**
+     * 添加元素
+     *
+     * @param e boolean
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray add(boolean e) {
+        arrayNode.add(e);
+        return this;
+    }
+
+    /**
+     * 添加所有元素，整体转换一次，适合一次添加大量元素
      *
      * @param objects 元素列表
      * @return 自身 JacksonArray
      */
     public JacksonArray addAll(Collection<?> objects) {
-        List<JsonNode> collect = objects.stream().map(v -> OBJECT_MAPPER.convertValue(v, JsonNode.class))
-                .collect(Collectors.toList());
-        arrayNode.addAll(collect);
+        JacksonNodes.addAll(arrayNode, objects);
         return this;
     }
 
@@ -491,8 +622,87 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
      * @return 自身 JacksonArray
      */
     public JacksonArray set(int index, Object element) {
-        JsonNode jsonNode = OBJECT_MAPPER.valueToTree(element);
+        return replace(index, JacksonNodes.toNode(element));
+    }
+
+    /**
+     * 替换元素，如果下标不合法，直接追加元素
+     *
+     * @param index   原来的下标
+     * @param element 字符串，可以为 null
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray set(int index, String element) {
+        return replace(index, arrayNode.textNode(element));
+    }
+
+    /**
+     * 替换元素，如果下标不合法，直接追加元素
+     *
+     * @param index   原来的下标
+     * @param element int
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray set(int index, int element) {
+        return replace(index, arrayNode.numberNode(element));
+    }
+
+    /**
+     * 替换元素，如果下标不合法，直接追加元素
+     *
+     * @param index   原来的下标
+     * @param element long
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray set(int index, long element) {
+        return replace(index, arrayNode.numberNode(element));
+    }
+
+    /**
+     * 替换元素，如果下标不合法，直接追加元素
+     *
+     * @param index   原来的下标
+     * @param element double
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray set(int index, double element) {
+        return replace(index, arrayNode.numberNode(element));
+    }
+
+    /**
+     * 替换元素，如果下标不合法，直接追加元素
+     *
+     * @param index   原来的下标
+     * @param element float
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray set(int index, float element) {
+        return replace(index, arrayNode.numberNode(element));
+    }
+
+    /**
+     * 替换元素，如果下标不合法，直接追加元素，char 作为长度为 1 的字符串
+     *
+     * @param index   原来的下标
+     * @param element char
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray set(int index, char element) {
+        return replace(index, arrayNode.textNode(String.valueOf(element)));
+    }
+
+    /**
+     * 替换元素，如果下标不合法，直接追加元素
+     *
+     * @param index   原来的下标
+     * @param element boolean
+     * @return 自身 JacksonArray
+     */
+    public JacksonArray set(int index, boolean element) {
+        return replace(index, arrayNode.booleanNode(element));
+    }
 
+    private JacksonArray replace(int index, JsonNode jsonNode) {
         if (index < 0 || index >= arrayNode.size()) {
             arrayNode.add(jsonNode);
         } else {
@@ -513,7 +723,7 @@ public class JacksonArray extends Jackson implements Iterable<JsonNode> {
      * @return 下标
      */
     public int indexOf(Object o) {
-        JsonNode jsonNode = OBJECT_MAPPER.valueToTree(o);
+        JsonNode jsonNode = JacksonNodes.toNode(o);
 
         for (int i = 0; i < arrayNode.size(); i++) {
             if (jsonNode.equals(arrayNode.get(i))) {
@@ -0,0 +1,50 @@
+package top.senseiliu.jackson;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+/**
+ * 逐个元素读取 json 数组的迭代器
+ * <p>
+ * 基于 JsonParser 流式读取，每次只构建一个元素的 ObjectNode，内存占用取决于最大的单个元素，而不是整个文件。
+ * 读取结束或发生异常时自动关闭 JsonParser，提前结束遍历时需要调用 {@link #close()}
+ *
+ * @author liuguanliang
+ */
+public final class JacksonArrayIterator implements Iterator<JacksonObject>, Closeable {
+    private final JacksonObjectCursor cursor;
+
+    JacksonArrayIterator(JsonParser parser) {
+        this.cursor = new JacksonObjectCursor(parser, JsonToken.END_ARRAY, "流式读取JacksonArray");
+        JsonToken token;
+        try {
+            token = parser.nextToken();
+        } catch (Exception e) {
+            throw cursor.fail(e.getMessage());
+        }
+        if (token != JsonToken.START_ARRAY) {
+            throw cursor.fail("json 不是数组，token:" + token);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor.hasNext();
+    }
+
+    @Override
+    public JacksonObject next() {
+        return cursor.next();
+    }
+
+    /**
+     * 关闭底层 JsonParser 与数据来源，可以重复调用
+     */
+    @Override
+    public void close() {
+        cursor.close();
+    }
+}
@@ -0,0 +1,362 @@
+package top.senseiliu.jackson;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.RandomAccess;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.DoubleNode;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.LongNode;
+
+/**
+ * 元素全部为 int、long 或 double 时使用基本类型数组存储的 ArrayNode
+ * <p>
+ * 类型由第一个元素决定，之后添加的元素类型相同时继续使用基本类型数组，
+ * 每个元素只占 4 / 8 字节，而不是一个 IntNode、DoubleNode 对象加一个引用；
+ * 放入其他类型的节点时转换为普通的节点列表，之后与 ArrayNode 完全一致。
+ * int 与 long、double 混合时同样转换为节点列表，不做类型提升，保证读出的节点与放入的一致。
+ * 读取元素时按需创建节点，序列化、toIntArray 等直接读取基本类型数组
+ *
+ * @author liuguanliang
+ */
+@SuppressWarnings("unchecked")
+final class JacksonArrayNode extends ArrayNode {
+    private static final long serialVersionUID = 1L;
+
+    private final Values values;
+
+    JacksonArrayNode(JsonNodeFactory nf) {
+        this(nf, new Values(0));
+    }
+
+    JacksonArrayNode(JsonNodeFactory nf, int capacity) {
+        this(nf, new Values(capacity));
+    }
+
+    private JacksonArrayNode(JsonNodeFactory nf, Values values) {
+        super(nf, values);
+        this.values = values;
+    }
+
+    static JacksonArrayNode ofInts(JsonNodeFactory nf, int[] array) {
+        Values values = new Values(0);
+        values.kind = Values.INT;
+        values.ints = array.clone();
+        values.size = array.length;
+        return new JacksonArrayNode(nf, values);
+    }
+
+    static JacksonArrayNode ofLongs(JsonNodeFactory nf, long[] array) {
+        Values values = new Values(0);
+        values.kind = Values.LONG;
+        values.longs = array.clone();
+        values.size = array.length;
+        return new JacksonArrayNode(nf, values);
+    }
+
+    static JacksonArrayNode ofDoubles(JsonNodeFactory nf, double[] array) {
+        Values values = new Values(0);
+        values.kind = Values.DOUBLE;
+        values.doubles = array.clone();
+        values.size = array.length;
+        return new JacksonArrayNode(nf, values);
+    }
+
+    /**
+     * 基本类型数组存储时复制为 int[]，long、double 存储或已经转换为节点列表时返回 null
+     */
+    int[] toIntArray() {
+        return values.kind == Values.INT ? Arrays.copyOf(values.ints, values.size) : null;
+    }
+
+    /**
+     * 基本类型数组存储时复制为 long[]，int 直接扩展为 long，double 存储或已经转换为节点列表时返回 null
+     */
+    long[] toLongArray() {
+        int size = values.size;
+        if (values.kind == Values.LONG) {
+            return Arrays.copyOf(values.longs, size);
+        }
+        if (values.kind == Values.INT) {
+            long[] array = new long[size];
+            for (int i = 0; i < size; i++) {
+                array[i] = values.ints[i];
+            }
+            return array;
+        }
+        return null;
+    }
+
+    /**
+     * 基本类型数组存储时复制为 double[]，int、long 直接转换为 double，已经转换为节点列表时返回 null
+     */
+    double[] toDoubleArray() {
+        int size = values.size;
+        switch (values.kind) {
+            case Values.DOUBLE:
+                return Arrays.copyOf(values.doubles, size);
+            case Values.INT: {
+                double[] array = new double[size];
+                for (int i = 0; i < size; i++) {
+                    array[i] = values.ints[i];
+                }
+                return array;
+            }
+            case Values.LONG: {
+                double[] array = new double[size];
+                for (int i = 0; i < size; i++) {
+                    array[i] = values.longs[i];
+                }
+                return array;
+            }
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void serialize(JsonGenerator g, SerializerProvider provider) throws IOException {
+        int kind = values.kind;
+        if (kind == Values.NONE || kind == Values.NODES) {
+            super.serialize(g, provider);
+            return;
+        }
+        int size = values.size;
+        g.writeStartArray(this, size);
+        if (kind == Values.INT) {
+            int[] ints = values.ints;
+            for (int i = 0; i < size; i++) {
+                g.writeNumber(ints[i]);
+            }
+        } else if (kind == Values.LONG) {
+            long[] longs = values.longs;
+            for (int i = 0; i < size; i++) {
+                g.writeNumber(longs[i]);
+            }
+        } else {
+            double[] doubles = values.doubles;
+            for (int i = 0; i < size; i++) {
+                g.writeNumber(doubles[i]);
+            }
+        }
+        g.writeEndArray();
+    }
+
+    @Override
+    public ArrayNode deepCopy() {
+        switch (values.kind) {
+            case Values.INT:
+                return ofInts(_nodeFactory, Arrays.copyOf(values.ints, values.size));
+            case Values.LONG:
+                return ofLongs(_nodeFactory, Arrays.copyOf(values.longs, values.size));
+            case Values.DOUBLE:
+                return ofDoubles(_nodeFactory, Arrays.copyOf(values.doubles, values.size));
+            default:
+                JacksonArrayNode copy = new JacksonArrayNode(_nodeFactory, size());
+                for (JsonNode element : values) {
+                    copy.add(element.deepCopy());
+                }
+                return copy;
+        }
+    }
+
+    /**
+     * ArrayNode 的元素列表，元素类型一致时存储在基本类型数组中
+     */
+    private static final class Values extends AbstractList<JsonNode> implements RandomAccess {
+        /**
+         * 还没有元素，类型未定
+         */
+        private static final int NONE = 0;
+        private static final int INT = 1;
+        private static final int LONG = 2;
+        private static final int DOUBLE = 3;
+        /**
+         * 普通的节点列表
+         */
+        private static final int NODES = 4;
+
+        private final int capacity;
+        private int kind;
+        private int size;
+        private int[] ints;
+        private long[] longs;
+        private double[] doubles;
+        private List<JsonNode> nodes;
+
+        private Values(int capacity) {
+            this.capacity = capacity;
+        }
+
+        @Override
+        public JsonNode get(int index) {
+            if (kind == NODES) {
+                return nodes.get(index);
+            }
+            checkIndex(index, size);
+            return nodeAt(index);
+        }
+
+        @Override
+        public int size() {
+            return kind == NODES ? nodes.size() : size;
+        }
+
+        @Override
+        public JsonNode set(int index, JsonNode element) {
+            if (kind != NODES) {
+                checkIndex(index, size);
+                if (kindOf(element) == kind) {
+                    JsonNode old = nodeAt(index);
+                    store(index, element);
+                    return old;
+                }
+                toNodes();
+            }
+            return nodes.set(index, element);
+        }
+
+        @Override
+        public void add(int index, JsonNode element) {
+            if (kind == NONE) {
+                start(kindOf(element));
+            }
+            if (kind != NODES) {
+                checkIndex(index, size + 1);
+                if (kindOf(element) == kind) {
+                    grow(size + 1);
+                    shift(index, index + 1, size - index);
+                    store(index, element);
+                    size++;
+                    modCount++;
+                    return;
+                }
+                toNodes();
+            }
+            nodes.add(index, element);
+            modCount++;
+        }
+
+        @Override
+        public JsonNode remove(int index) {
+            modCount++;
+            if (kind == NODES) {
+                return nodes.remove(index);
+            }
+            checkIndex(index, size);
+            JsonNode old = nodeAt(index);
+            shift(index + 1, index, size - index - 1);
+            size--;
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            modCount++;
+            kind = NONE;
+            size = 0;
+            ints = null;
+            longs = null;
+            doubles = null;
+            nodes = null;
+        }
+
+        private static void checkIndex(int index, int length) {
+            if (index < 0 || index >= length) {
+                throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + length);
+            }
+        }
+
+        private static int kindOf(JsonNode node) {
+            Class<?> type = node.getClass();
+            if (type == IntNode.class) {
+                return INT;
+            }
+            if (type == LongNode.class) {
+                return LONG;
+            }
+            if (type == DoubleNode.class) {
+                return DOUBLE;
+            }
+            return NODES;
+        }
+
+        private void start(int kind) {
+            int length = Math.max(capacity, 10);
+            this.kind = kind;
+            if (kind == INT) {
+                ints = new int[length];
+            } else if (kind == LONG) {
+                longs = new long[length];
+            } else if (kind == DOUBLE) {
+                doubles = new double[length];
+            } else {
+                nodes = new ArrayList<>(capacity);
+            }
+        }
+
+        private JsonNode nodeAt(int index) {
+            if (kind == INT) {
+                return IntNode.valueOf(ints[index]);
+            }
+            if (kind == LONG) {
+                return LongNode.valueOf(longs[index]);
+            }
+            return DoubleNode.valueOf(doubles[index]);
+        }
+
+        private void store(int index, JsonNode element) {
+            if (kind == INT) {
+                ints[index] = element.intValue();
+            } else if (kind == LONG) {
+                longs[index] = element.longValue();
+            } else {
+                doubles[index] = element.doubleValue();
+            }
+        }
+
+        private void grow(int minCapacity) {
+            int length = kind == INT ? ints.length : kind == LONG ? longs.length : doubles.length;
+            if (minCapacity <= length) {
+                return;
+            }
+            int newLength = Math.max(minCapacity, length + (length >> 1));
+            if (kind == INT) {
+                ints = Arrays.copyOf(ints, newLength);
+            } else if (kind == LONG) {
+                longs = Arrays.copyOf(longs, newLength);
+            } else {
+                doubles = Arrays.copyOf(doubles, newLength);
+            }
+        }
+
+        private void shift(int from, int to, int length) {
+            Object array = kind == INT ? ints : kind == LONG ? longs : doubles;
+            System.arraycopy(array, from, array, to, length);
+        }
+
+        /**
+         * 放入了其他类型的节点，转换为普通的节点列表
+         */
+        private void toNodes() {
+            List<JsonNode> list = new ArrayList<>(Math.max(size + 1, capacity));
+            for (int i = 0; i < size; i++) {
+                list.add(nodeAt(i));
+            }
+            nodes = list;
+            kind = NODES;
+            size = 0;
+            ints = null;
+            longs = null;
+            doubles = null;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package top.senseiliu.jackson;
+
+import java.io.InputStream;
+import java.util.List;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.node.NullNode;
+
+/**
+ * 预先解析好的类型绑定
+ * <p>
+ * 持有解析完成的 JavaType 与对应的 ObjectReader，使用时跳过类型解析与反序列化器查找，线程安全。
+ * ObjectReader 跟随 {@link JacksonRegistry} 的缓存状态：OBJECT_MAPPER 被替换或者调用 {@link Jackson#resetCaches()} 后，
+ * 下一次使用时基于新的 OBJECT_MAPPER 重新创建，保存在静态常量中也不会沿用旧的配置。
+ * 热点的泛型类型建议保存在静态常量中：
+ * <pre>
+ * private static final JacksonBinding&lt;List&lt;User&gt;&gt; USERS = Jackson.binding(new TypeReference&lt;List&lt;User&gt;&gt;() {});
+ * </pre>
+ *
+ * @param <T> 目标类型
+ * @author liuguanliang
+ */
+public final class JacksonBinding<T> {
+    /**
+     * 解析完成的类型
+     */
+    private final JavaType type;
+
+    /**
+     * 目标类型的 ObjectReader 及创建它时的缓存状态，第一次使用时创建，缓存状态变化后重新创建
+     */
+    private volatile Resolved resolved;
+
+    /**
+     * List&lt;T&gt; 的绑定，第一次使用时创建
+     */
+    private volatile JacksonBinding<List<T>> listBinding;
+
+    JacksonBinding(JavaType type) {
+        this.type = type;
+    }
+
+    /**
+     * 当前缓存状态下的 ObjectReader，创建时查找好反序列化器
+     */
+    private ObjectReader reader() {
+        JacksonRegistry.State state = JacksonRegistry.state();
+        Resolved current = resolved;
+        if (current == null || current.state != state) {
+            current = new Resolved(state, state.getBase().readerFor(type));
+            resolved = current;
+        }
+        return current.reader;
+    }
+
+    /**
+     * 元素类型为 T 的 List 绑定
+     *
+     * @return List&lt;T&gt; 的绑定
+     */
+    public JacksonBinding<List<T>> list() {
+        JacksonBinding<List<T>> binding = listBinding;
+        if (binding == null) {
+            binding = new JacksonBinding<>(Jackson.OBJECT_MAPPER.getTypeFactory().constructCollectionType(List.class, type));
+            listBinding = binding;
+        }
+        return binding;
+    }
+
+    /**
+     * json string 转化成 java 对象
+     *
+     * @param text json string
+     * @return java 对象
+     */
+    public T parse(String text) {
+        try {
+            return reader().readValue(text);
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]String转Java对象时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * json 字节转化成 java 对象
+     *
+     * @param bytes json 字节
+     * @return java 对象
+     */
+    public T parse(byte[] bytes) {
+        try {
+            return reader().readValue(bytes);
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]byte[]转Java对象时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * json 输入流转化成 java 对象
+     *
+     * @param inputStream json 输入流，读取结束后关闭
+     * @return java 对象
+     */
+    public T parse(InputStream inputStream) {
+        try {
+            return reader().readValue(inputStream);
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]InputStream转Java对象时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * java 对象转化
+     *
+     * @param value java 对象
+     * @return 转化后对象
+     */
+    public T convert(Object value) {
+        if (value instanceof JsonNode) {
+            return fromNode((JsonNode) value);
+        }
+        return Jackson.OBJECT_MAPPER.convertValue(value, type);
+    }
+
+    /**
+     * JsonNode 转化成 java 对象
+     * <p>
+     * 通过 ObjectReader 直接遍历节点树绑定，不像 convertValue 那样先写入 TokenBuffer 再读出来。
+     * 节点为 null 或不存在时按 null 处理，对象类型返回 null，基本类型返回 0；
+     * 目标类型本身就是节点类型时返回深拷贝，修改结果不会影响原来的节点树
+     *
+     * @param node JsonNode
+     * @return java 对象
+     */
+    @SuppressWarnings("unchecked")
+    public T fromNode(JsonNode node) {
+        if (node == null || node.isMissingNode()) {
+            node = NullNode.getInstance();
+        }
+        // 目标类型本身就是节点类型时直接复制，不经过 ObjectReader，节点类型（紧凑对象、基本类型数组）保持不变
+        if (type.getRawClass() != Object.class && !type.hasGenericTypes() && type.getRawClass().isInstance(node)) {
+            return (T) node.deepCopy();
+        }
+
+        try {
+            return reader().readValue(node);
+        } catch (Exception e) {
+            throw new IllegalArgumentException("[Jackson]JsonNode转Java对象时发生异常，msg:" + e.getMessage(), e);
+        }
+    }
+
+    public JavaType getType() {
+        return type;
+    }
+
+    public ObjectReader getReader() {
+        return reader();
+    }
+
+    /**
+     * ObjectReader 与创建它时的缓存状态，一起发布
+     */
+    private static final class Resolved {
+        private final JacksonRegistry.State state;
+        private final ObjectReader reader;
+
+        private Resolved(JacksonRegistry.State state, ObjectReader reader) {
+            this.state = state;
+            this.reader = reader;
+        }
+    }
+}
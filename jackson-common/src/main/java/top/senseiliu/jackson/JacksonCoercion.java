@@ -0,0 +1,274 @@
+package top.senseiliu.jackson;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Date;
+
+import com.fasterxml.jackson.core.io.NumberInput;
+import com.fasterxml.jackson.databind.JsonNode;
+import top.senseiliu.jackson.date.DateParser;
+import top.senseiliu.jackson.date.DateTimes;
+
+/**
+ * JacksonObject、JacksonArray 取值时的类型转换
+ * <p>
+ * 节点不是目标类型时，直接转换文本、数字节点，文本使用 jackson 自带的快速解析（FastDoubleParser），
+ * 不再经过 OBJECT_MAPPER.convertValue 创建 TokenBuffer、查找反序列化器。
+ * 其余节点（对象、数组、二进制等）仍然使用 convertValue，结果与之前一致：
+ * <ul>
+ *     <li>不存在、null、空字符串、字符串 "null"：基本类型返回 0 / false，包装类型返回 null</li>
+ *     <li>文本会去掉首尾空白，无法转换或超出范围时抛出 IllegalArgumentException</li>
+ *     <li>浮点数转整数时截断小数部分</li>
+ * </ul>
+ *
+ * @author liuguanliang
+ */
+final class JacksonCoercion {
+    private JacksonCoercion() {
+    }
+
+    static boolean toBooleanValue(JsonNode node) {
+        Boolean value = toBoolean(node);
+        return value != null && value;
+    }
+
+    static Boolean toBoolean(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return null;
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        if (text != null) {
+            if ("true".equalsIgnoreCase(text)) {
+                return Boolean.TRUE;
+            }
+            if ("false".equalsIgnoreCase(text)) {
+                return Boolean.FALSE;
+            }
+            throw fail(text, "boolean");
+        }
+        if (node.isIntegralNumber()) {
+            return node.bigIntegerValue().signum() != 0;
+        }
+        return Jackson.OBJECT_MAPPER.convertValue(node, Boolean.class);
+    }
+
+    static short toShortValue(JsonNode node) {
+        Short value = toShort(node);
+        return value == null ? 0 : value;
+    }
+
+    static Short toShort(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return null;
+        }
+        int value = text != null ? parseInt(text, "short") : numberToInt(node, "short");
+        if (value < Short.MIN_VALUE || value > Short.MAX_VALUE) {
+            throw fail(String.valueOf(value), "short");
+        }
+        return (short) value;
+    }
+
+    static int toIntValue(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return 0;
+        }
+        return text != null ? parseInt(text, "int") : numberToInt(node, "int");
+    }
+
+    static Integer toInteger(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return null;
+        }
+        return text != null ? parseInt(text, "int") : numberToInt(node, "int");
+    }
+
+    static long toLongValue(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return 0L;
+        }
+        return text != null ? parseLong(text) : numberToLong(node);
+    }
+
+    static Long toLong(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return null;
+        }
+        return text != null ? parseLong(text) : numberToLong(node);
+    }
+
+    static float toFloatValue(JsonNode node) {
+        Float value = toFloat(node);
+        return value == null ? 0F : value;
+    }
+
+    static Float toFloat(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return null;
+        }
+        if (node.isNumber()) {
+            return node.floatValue();
+        }
+        if (text != null) {
+            try {
+                return NumberInput.parseFloat(text, true);
+            } catch (NumberFormatException e) {
+                throw fail(text, "float");
+            }
+        }
+        return Jackson.OBJECT_MAPPER.convertValue(node, Float.class);
+    }
+
+    static double toDoubleValue(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return 0D;
+        }
+        return text != null ? parseDouble(text) : numberToDouble(node);
+    }
+
+    static Double toDouble(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return null;
+        }
+        return text != null ? parseDouble(text) : numberToDouble(node);
+    }
+
+    static BigDecimal toBigDecimal(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return null;
+        }
+        if (node.isNumber()) {
+            return node.decimalValue();
+        }
+        if (text != null) {
+            try {
+                return NumberInput.parseBigDecimal(text, true);
+            } catch (NumberFormatException e) {
+                throw fail(text, "BigDecimal");
+            }
+        }
+        return Jackson.OBJECT_MAPPER.convertValue(node, BigDecimal.class);
+    }
+
+    static BigInteger toBigInteger(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return null;
+        }
+        if (node.isNumber()) {
+            return node.bigIntegerValue();
+        }
+        if (text != null) {
+            try {
+                return NumberInput.parseBigInteger(text, true);
+            } catch (NumberFormatException e) {
+                throw fail(text, "BigInteger");
+            }
+        }
+        return Jackson.OBJECT_MAPPER.convertValue(node, BigInteger.class);
+    }
+
+    /**
+     * 整数为时间戳（单位见 DateTimeMode），常用格式的文本直接解析，其余格式仍由 DateFormatExtend 处理
+     */
+    static Date toDate(JsonNode node) {
+        String text = text(node);
+        if (isNull(node, text)) {
+            return null;
+        }
+        if (node.isIntegralNumber() && node.canConvertToLong()) {
+            return new Date(DateTimes.getMode().toMillis(node.longValue()));
+        }
+        if (text != null) {
+            LocalDateTime dateTime = DateParser.parseLocal(text);
+            if (dateTime != null) {
+                return Date.from(dateTime.atZone(ZoneId.systemDefault()).toInstant());
+            }
+        }
+        return Jackson.OBJECT_MAPPER.convertValue(node, Date.class);
+    }
+
+    /**
+     * 文本节点去掉首尾空白后的内容，其余节点返回 null
+     */
+    private static String text(JsonNode node) {
+        if (node == null || !node.isTextual()) {
+            return null;
+        }
+        String text = node.textValue();
+        return text.isEmpty() ? text : text.trim();
+    }
+
+    private static boolean isNull(JsonNode node, String text) {
+        return node == null || node.isNull() || node.isMissingNode()
+                || (text != null && (text.isEmpty() || "null".equals(text)));
+    }
+
+    private static int numberToInt(JsonNode node, String type) {
+        if (node.isNumber()) {
+            if (node.canConvertToInt()) {
+                return node.intValue();
+            }
+            throw fail(node.asText(), type);
+        }
+        return Jackson.OBJECT_MAPPER.convertValue(node, int.class);
+    }
+
+    private static long numberToLong(JsonNode node) {
+        if (node.isNumber()) {
+            if (node.canConvertToLong()) {
+                return node.longValue();
+            }
+            throw fail(node.asText(), "long");
+        }
+        return Jackson.OBJECT_MAPPER.convertValue(node, long.class);
+    }
+
+    private static double numberToDouble(JsonNode node) {
+        if (node.isNumber()) {
+            return node.doubleValue();
+        }
+        return Jackson.OBJECT_MAPPER.convertValue(node, double.class);
+    }
+
+    private static int parseInt(String text, String type) {
+        try {
+            return NumberInput.parseInt(text);
+        } catch (NumberFormatException e) {
+            throw fail(text, type);
+        }
+    }
+
+    private static long parseLong(String text) {
+        try {
+            return NumberInput.parseLong(text);
+        } catch (NumberFormatException e) {
+            throw fail(text, "long");
+        }
+    }
+
+    private static double parseDouble(String text) {
+        try {
+            return NumberInput.parseDouble(text, true);
+        } catch (NumberFormatException e) {
+            throw fail(text, "double");
+        }
+    }
+
+    private static IllegalArgumentException fail(String text, String type) {
+        return new IllegalArgumentException("[Jackson]类型转换时发生异常，msg:\"" + text + "\" 不是有效的 " + type);
+    }
+}
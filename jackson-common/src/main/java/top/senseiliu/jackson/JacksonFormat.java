@@ -0,0 +1,91 @@
+package top.senseiliu.jackson;
+
+import java.util.function.Supplier;
+
+import com.fasterxml.jackson.core.JsonFactory;
+
+/**
+ * 数据格式
+ * <p>
+ * 除了文本 json，还支持 jackson 的二进制格式，与 json 使用同一套 JacksonObject / JacksonArray API，
+ * 日期等配置也与 OBJECT_MAPPER 保持一致。
+ * 二进制格式需要自行引入对应的依赖，比如 jackson-dataformat-smile、jackson-dataformat-cbor，
+ * 其它格式（比如 MessagePack）可以通过 {@link #of(String, Supplier)} 接入
+ *
+ * @author liuguanliang
+ */
+public final class JacksonFormat {
+    /**
+     * 文本 json，即 OBJECT_MAPPER 本身
+     */
+    public static final JacksonFormat JSON = new JacksonFormat("json", null);
+
+    /**
+     * Smile 二进制 json，需要 jackson-dataformat-smile
+     */
+    public static final JacksonFormat SMILE = new JacksonFormat("smile",
+            () -> newFactory("com.fasterxml.jackson.dataformat.smile.SmileFactory"));
+
+    /**
+     * CBOR，需要 jackson-dataformat-cbor
+     */
+    public static final JacksonFormat CBOR = new JacksonFormat("cbor",
+            () -> newFactory("com.fasterxml.jackson.dataformat.cbor.CBORFactory"));
+
+    /**
+     * 格式名称
+     */
+    private final String name;
+
+    /**
+     * 创建 JsonFactory，JSON 为 null
+     */
+    private final Supplier<? extends JsonFactory> factory;
+
+    private JacksonFormat(String name, Supplier<? extends JsonFactory> factory) {
+        this.name = name;
+        this.factory = factory;
+    }
+
+    /**
+     * 自定义格式，同一种格式应该只创建一次并保存在静态常量中
+     *
+     * @param name    格式名称
+     * @param factory 创建 JsonFactory，比如 MessagePackFactory::new
+     * @return 格式
+     */
+    public static JacksonFormat of(String name, Supplier<? extends JsonFactory> factory) {
+        return new JacksonFormat(name, factory);
+    }
+
+    /**
+     * 通过类名创建 JsonFactory，避免没有引入对应依赖时加载失败
+     */
+    private static JsonFactory newFactory(String className) {
+        try {
+            return (JsonFactory) Class.forName(className).getDeclaredConstructor().newInstance();
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("[Jackson]没有找到" + className + "，请引入对应的 jackson-dataformat 依赖");
+        } catch (Exception e) {
+            throw new IllegalStateException("[Jackson]创建" + className + "时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 创建该格式的 JsonFactory
+     *
+     * @return JsonFactory，JSON 返回 null
+     */
+    JsonFactory newFactory() {
+        return factory == null ? null : factory.get();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
@@ -0,0 +1,40 @@
+package top.senseiliu.jackson;
+
+import java.io.Closeable;
+import java.util.Iterator;
+
+import com.fasterxml.jackson.core.JsonParser;
+
+/**
+ * NDJSON（JSON Lines）读取器，每一行是一个 json 对象
+ * <p>
+ * 所有记录共用一个 JsonParser 及其缓冲区，直接在字节流上解析，不会为每一行创建 String，空行会被跳过。
+ * 读取结束或发生异常时自动关闭 JsonParser，提前结束遍历时需要调用 {@link #close()}
+ *
+ * @author liuguanliang
+ */
+public final class JacksonLineReader implements Iterator<JacksonObject>, Closeable {
+    private final JacksonObjectCursor cursor;
+
+    JacksonLineReader(JsonParser parser) {
+        this.cursor = new JacksonObjectCursor(parser, null, "读取NDJSON");
+    }
+
+    @Override
+    public boolean hasNext() {
+        return cursor.hasNext();
+    }
+
+    @Override
+    public JacksonObject next() {
+        return cursor.next();
+    }
+
+    /**
+     * 关闭底层 JsonParser 与数据来源，可以重复调用
+     */
+    @Override
+    public void close() {
+        cursor.close();
+    }
+}
@@ -0,0 +1,87 @@
+package top.senseiliu.jackson;
+
+import java.io.Closeable;
+import java.io.Flushable;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * NDJSON（JSON Lines）写入器，每次写入一条记录并换行
+ * <p>
+ * 所有记录共用一个 JsonGenerator 及其缓冲区，直接写入输出流，不会为每条记录创建 String。
+ * 写入时不会主动 flush，需要时调用 {@link #flush()}，关闭时会同时关闭输出流
+ *
+ * @author liuguanliang
+ */
+public final class JacksonLineWriter implements Closeable, Flushable {
+    /**
+     * 不在每次写入后 flush 的 ObjectWriter
+     */
+    private static final JacksonOptions OPTIONS = JacksonOptions.DEFAULT.disable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    /**
+     * 输出目标
+     */
+    private final JsonGenerator generator;
+
+    private final ObjectWriter writer;
+
+    JacksonLineWriter(JsonGenerator generator) {
+        this.generator = generator;
+        // 换行符由写入器自己输出，不使用默认的空格分隔
+        this.generator.setRootValueSeparator(null);
+        this.writer = JacksonRegistry.writer(OPTIONS);
+    }
+
+    /**
+     * 写入一条记录
+     *
+     * @param value JacksonObject、JacksonArray 或任意 java 对象
+     * @return 自身 JacksonLineWriter
+     */
+    public JacksonLineWriter write(Object value) {
+        try {
+            writer.writeValue(generator, value);
+            generator.writeRaw('\n');
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]写入NDJSON时发生异常，msg:" + e.getMessage());
+        }
+        return this;
+    }
+
+    /**
+     * 写入多条记录
+     *
+     * @param values 记录
+     * @return 自身 JacksonLineWriter
+     */
+    public JacksonLineWriter writeAll(Iterable<?> values) {
+        for (Object value : values) {
+            write(value);
+        }
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        try {
+            generator.flush();
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]写入NDJSON时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 关闭 JsonGenerator 与输出流，可以重复调用
+     */
+    @Override
+    public void close() {
+        try {
+            generator.close();
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]关闭JsonGenerator时发生异常，msg:" + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package top.senseiliu.jackson;
+
+import java.lang.reflect.Type;
+
+/**
+ * Jackson 的指标监听器
+ * <p>
+ * 通过 {@link Jackson#setListener(JacksonListener)} 安装，没有安装时每次调用只多一次 volatile 读。
+ * 回调在调用线程中同步执行，实现必须线程安全并且足够轻量，不能抛出异常。
+ * <p>
+ * Jackson 的 parseObject、parseObjectLazy、parseArray、parseJavaObject、convert、convertObject、convertArray、
+ * objectToString、objectToBytes、objectToStream、objectToWriter、objectToBuffer、objectToChannel 的所有重载
+ * （包括 JacksonFormat、投影的重载，以及 toJsonString、toBytes、writeJson 等成员方法）都会回调；
+ * iterateArray、streamArray、readLines、lineWriter 等逐条读写的方法，以及直接使用 {@link JacksonBinding}、
+ * ObjectMapper 的调用不会回调。
+ * <p>
+ * 输入输出大小：payload 为 String 时是字符数，其余情况是字节数；InputStream、Reader、Path 的输入大小，
+ * OutputStream、Writer、Channel 的输出大小，以及 java 对象都记录为 -1。
+ * 内置实现：
+ * <ul>
+ *     <li>{@link JacksonMetrics}：进程内统计，可以注册为 JMX MBean</li>
+ *     <li>{@link JacksonMicrometerListener}：写入 Micrometer 的 MeterRegistry</li>
+ * </ul>
+ *
+ * @author liuguanliang
+ */
+public interface JacksonListener {
+    /**
+     * 操作成功
+     *
+     * @param operation  操作类型
+     * @param type       目标类型，序列化时为对象的类型，对象为 null 时为 null
+     * @param nanos      耗时，纳秒
+     * @param inputSize  输入大小，String 为字符数，其余为字节数，未知或 java 对象为 -1
+     * @param outputSize 输出大小，String 为字符数，其余为字节数，未知或 java 对象为 -1
+     * @param payload    json 内容，解析时为输入，序列化时为输出，只能读取不能修改，也不能在回调结束后持有；
+     *                   二进制格式、流、ByteBuffer、字节片段没有完整的 json 内容，为 null
+     */
+    void onSuccess(JacksonOperation operation, Type type, long nanos, long inputSize, long outputSize, Object payload);
+
+    /**
+     * 操作失败
+     *
+     * @param operation 操作类型
+     * @param type      目标类型
+     * @param nanos     耗时，纳秒
+     * @param inputSize 输入大小，未知或 java 对象为 -1
+     * @param error     异常
+     */
+    default void onFailure(JacksonOperation operation, Type type, long nanos, long inputSize, Throwable error) {
+    }
+
+    /**
+     * 组合多个监听器，按顺序回调
+     *
+     * @param listeners 监听器
+     * @return 组合后的监听器
+     */
+    static JacksonListener composite(JacksonListener... listeners) {
+        JacksonListener[] copy = listeners.clone();
+        return new JacksonListener() {
+            @Override
+            public void onSuccess(JacksonOperation operation, Type type, long nanos, long inputSize, long outputSize, Object payload) {
+                for (JacksonListener listener : copy) {
+                    listener.onSuccess(operation, type, nanos, inputSize, outputSize, payload);
+                }
+            }
+
+            @Override
+            public void onFailure(JacksonOperation operation, Type type, long nanos, long inputSize, Throwable error) {
+                for (JacksonListener listener : copy) {
+                    listener.onFailure(operation, type, nanos, inputSize, error);
+                }
+            }
+        };
+    }
+}
@@ -0,0 +1,445 @@
+package top.senseiliu.jackson;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * 进程内的指标统计
+ * <p>
+ * 按操作类型记录耗时分布、输入输出大小分布、失败次数，按目标类型记录调用次数，
+ * 并保留最近几次超过阈值的慢调用。json 内容可能包含敏感信息，并且会通过 JMX 暴露，
+ * 默认不保留；通过构造参数开启后保留内容的前 {@value #PREVIEW_LENGTH} 个字符。
+ * 所有统计都是无锁的，可以通过 {@link #register()} 注册为 JMX MBean：
+ * <pre>
+ * JacksonMetrics metrics = new JacksonMetrics();
+ * metrics.register();
+ * Jackson.setListener(metrics);
+ * </pre>
+ *
+ * @author liuguanliang
+ */
+public class JacksonMetrics implements JacksonListener, JacksonMetricsMXBean {
+    /**
+     * 默认的 JMX 名称
+     */
+    public static final String OBJECT_NAME = "top.senseiliu.jackson:type=JacksonMetrics";
+
+    /**
+     * 默认慢调用阈值
+     */
+    public static final long DEFAULT_SLOW_THRESHOLD_MILLIS = 100;
+
+    /**
+     * 默认保留的慢调用数量
+     */
+    public static final int DEFAULT_SAMPLES = 16;
+
+    /**
+     * 慢调用保留的内容长度
+     */
+    public static final int PREVIEW_LENGTH = 512;
+
+    /**
+     * 目标类型数量上限，超出的计入 other，避免动态生成的类型撑爆内存
+     */
+    private static final int MAX_TYPES = 1024;
+    private static final String OTHER_TYPE = "other";
+
+    private final Stats[] stats;
+    private final Map<String, LongAdder> typeCounts = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<SlowSample> samples;
+    private final AtomicLong sampleCursor = new AtomicLong();
+    private final boolean preview;
+    private volatile long slowThresholdNanos;
+    private ObjectName objectName;
+
+    public JacksonMetrics() {
+        this(DEFAULT_SLOW_THRESHOLD_MILLIS, DEFAULT_SAMPLES);
+    }
+
+    /**
+     * @param slowThresholdMillis 慢调用阈值，毫秒
+     * @param samples             保留的慢调用数量
+     */
+    public JacksonMetrics(long slowThresholdMillis, int samples) {
+        this(slowThresholdMillis, samples, false);
+    }
+
+    /**
+     * @param slowThresholdMillis 慢调用阈值，毫秒
+     * @param samples             保留的慢调用数量
+     * @param preview             慢调用是否保留 json 内容的前 {@value #PREVIEW_LENGTH} 个字符，内容会通过 JMX 暴露
+     */
+    public JacksonMetrics(long slowThresholdMillis, int samples, boolean preview) {
+        JacksonOperation[] operations = JacksonOperation.values();
+        this.stats = new Stats[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            stats[i] = new Stats();
+        }
+        this.samples = new AtomicReferenceArray<>(Math.max(1, samples));
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+        this.preview = preview;
+    }
+
+    @Override
+    public void onSuccess(JacksonOperation operation, Type type, long nanos, long inputSize, long outputSize, Object payload) {
+        Stats s = stats[operation.ordinal()];
+        s.latency.record(nanos);
+        s.input.record(inputSize);
+        s.output.record(outputSize);
+        countType(type);
+        if (nanos >= slowThresholdNanos) {
+            long sequence = sampleCursor.getAndIncrement();
+            SlowSample sample = new SlowSample(sequence, operation, type, nanos, Math.max(inputSize, outputSize),
+                    preview ? preview(payload) : null);
+            samples.set((int) (sequence % samples.length()), sample);
+        }
+    }
+
+    @Override
+    public void onFailure(JacksonOperation operation, Type type, long nanos, long inputSize, Throwable error) {
+        stats[operation.ordinal()].errors.increment();
+    }
+
+    private void countType(Type type) {
+        if (type == null) {
+            return;
+        }
+        String name = type.getTypeName();
+        LongAdder counter = typeCounts.get(name);
+        if (counter == null) {
+            if (typeCounts.size() >= MAX_TYPES) {
+                name = OTHER_TYPE;
+            }
+            counter = typeCounts.computeIfAbsent(name, key -> new LongAdder());
+        }
+        counter.increment();
+    }
+
+    private static String preview(Object payload) {
+        if (payload instanceof String) {
+            return truncate((String) payload);
+        }
+        if (payload instanceof byte[]) {
+            // 先解码再截断，不会截断在多字节字符中间；一个字符最多 3 个字节（代理对 4 个字节对应 2 个字符），
+            // 解码 PREVIEW_LENGTH * 4 个字节足够得到 PREVIEW_LENGTH 个完整的字符
+            byte[] bytes = (byte[]) payload;
+            return truncate(new String(bytes, 0, Math.min(bytes.length, PREVIEW_LENGTH * 4), StandardCharsets.UTF_8));
+        }
+        return null;
+    }
+
+    /**
+     * 截断到 {@value #PREVIEW_LENGTH} 个字符，不拆开代理对
+     */
+    private static String truncate(String text) {
+        if (text.length() <= PREVIEW_LENGTH) {
+            return text;
+        }
+        int end = Character.isHighSurrogate(text.charAt(PREVIEW_LENGTH - 1)) ? PREVIEW_LENGTH - 1 : PREVIEW_LENGTH;
+        return text.substring(0, end);
+    }
+
+    /**
+     * 成功次数
+     *
+     * @param operation 操作类型
+     * @return 次数
+     */
+    public long count(JacksonOperation operation) {
+        return stats[operation.ordinal()].latency.count();
+    }
+
+    /**
+     * 失败次数
+     *
+     * @param operation 操作类型
+     * @return 次数
+     */
+    public long errors(JacksonOperation operation) {
+        return stats[operation.ordinal()].errors.sum();
+    }
+
+    /**
+     * 耗时分位数
+     *
+     * @param operation 操作类型
+     * @param quantile  0 到 1 之间，比如 0.99
+     * @return 纳秒
+     */
+    public long latencyNanos(JacksonOperation operation, double quantile) {
+        return stats[operation.ordinal()].latency.percentile(quantile);
+    }
+
+    /**
+     * 输入总大小
+     *
+     * @param operation 操作类型
+     * @return String 为字符数，byte[] 为字节数
+     */
+    public long inputSize(JacksonOperation operation) {
+        return stats[operation.ordinal()].input.sum();
+    }
+
+    /**
+     * 输出总大小
+     *
+     * @param operation 操作类型
+     * @return String 为字符数，byte[] 为字节数
+     */
+    public long outputSize(JacksonOperation operation) {
+        return stats[operation.ordinal()].output.sum();
+    }
+
+    /**
+     * 最近的慢调用，按时间先后排列
+     *
+     * @return 慢调用
+     */
+    public List<SlowSample> slowSamples() {
+        List<SlowSample> list = new ArrayList<>(samples.length());
+        for (int i = 0; i < samples.length(); i++) {
+            SlowSample sample = samples.get(i);
+            if (sample != null) {
+                list.add(sample);
+            }
+        }
+        list.sort((a, b) -> Long.compare(a.sequence, b.sequence));
+        return list;
+    }
+
+    @Override
+    public Map<String, Long> getCounts() {
+        return collect(s -> s.latency.count());
+    }
+
+    @Override
+    public Map<String, Long> getErrors() {
+        return collect(s -> s.errors.sum());
+    }
+
+    @Override
+    public Map<String, Double> getMeanMillis() {
+        return collectMillis(s -> s.latency.count() == 0 ? 0 : s.latency.sum() / s.latency.count());
+    }
+
+    @Override
+    public Map<String, Double> getP50Millis() {
+        return collectMillis(s -> s.latency.percentile(0.5));
+    }
+
+    @Override
+    public Map<String, Double> getP99Millis() {
+        return collectMillis(s -> s.latency.percentile(0.99));
+    }
+
+    @Override
+    public Map<String, Double> getP999Millis() {
+        return collectMillis(s -> s.latency.percentile(0.999));
+    }
+
+    @Override
+    public Map<String, Double> getMaxMillis() {
+        return collectMillis(s -> s.latency.max());
+    }
+
+    @Override
+    public Map<String, Long> getInputSize() {
+        return collect(s -> s.input.sum());
+    }
+
+    @Override
+    public Map<String, Long> getOutputSize() {
+        return collect(s -> s.output.sum());
+    }
+
+    @Override
+    public Map<String, Long> getP99InputSize() {
+        return collect(s -> s.input.percentile(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getP99OutputSize() {
+        return collect(s -> s.output.percentile(0.99));
+    }
+
+    @Override
+    public Map<String, Long> getTypeCounts() {
+        Map<String, Long> map = new TreeMap<>();
+        typeCounts.forEach((type, counter) -> map.put(type, counter.sum()));
+        return map;
+    }
+
+    @Override
+    public List<String> getSlowSamples() {
+        List<String> list = new ArrayList<>();
+        for (SlowSample sample : slowSamples()) {
+            list.add(sample.toString());
+        }
+        return list;
+    }
+
+    @Override
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    @Override
+    public void setSlowThresholdMillis(long slowThresholdMillis) {
+        this.slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowThresholdMillis);
+    }
+
+    @Override
+    public void reset() {
+        for (Stats s : stats) {
+            s.reset();
+        }
+        typeCounts.clear();
+        for (int i = 0; i < samples.length(); i++) {
+            samples.set(i, null);
+        }
+    }
+
+    /**
+     * 以默认名称 {@value #OBJECT_NAME} 注册为 JMX MBean
+     *
+     * @return 自身
+     */
+    public JacksonMetrics register() {
+        return register(OBJECT_NAME);
+    }
+
+    /**
+     * 注册为 JMX MBean
+     *
+     * @param name JMX 名称
+     * @return 自身
+     */
+    public synchronized JacksonMetrics register(String name) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName objectName = new ObjectName(name);
+            server.registerMBean(this, objectName);
+            this.objectName = objectName;
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]注册MBean时发生异常，msg:" + e.getMessage());
+        }
+        return this;
+    }
+
+    /**
+     * 取消注册 JMX MBean
+     */
+    public synchronized void unregister() {
+        if (objectName == null) {
+            return;
+        }
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+            objectName = null;
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]取消注册MBean时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    private Map<String, Long> collect(ToLongFunction<Stats> function) {
+        Map<String, Long> map = new LinkedHashMap<>();
+        for (JacksonOperation operation : JacksonOperation.values()) {
+            map.put(operation.getMethod(), function.applyAsLong(stats[operation.ordinal()]));
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    private Map<String, Double> collectMillis(ToLongFunction<Stats> function) {
+        Map<String, Double> map = new LinkedHashMap<>();
+        for (JacksonOperation operation : JacksonOperation.values()) {
+            map.put(operation.getMethod(), function.applyAsLong(stats[operation.ordinal()]) / 1e6);
+        }
+        return Collections.unmodifiableMap(map);
+    }
+
+    /**
+     * 单个操作类型的统计
+     */
+    private static final class Stats {
+        private final ConcurrentHistogram latency = new ConcurrentHistogram();
+        private final ConcurrentHistogram input = new ConcurrentHistogram();
+        private final ConcurrentHistogram output = new ConcurrentHistogram();
+        private final LongAdder errors = new LongAdder();
+
+        private void reset() {
+            latency.reset();
+            input.reset();
+            output.reset();
+            errors.reset();
+        }
+    }
+
+    /**
+     * 慢调用
+     */
+    public static final class SlowSample {
+        private final long sequence;
+        private final JacksonOperation operation;
+        private final String type;
+        private final long nanos;
+        private final long size;
+        private final String preview;
+        private final long timestamp;
+
+        SlowSample(long sequence, JacksonOperation operation, Type type, long nanos, long size, String preview) {
+            this.sequence = sequence;
+            this.operation = operation;
+            this.type = type == null ? null : type.getTypeName();
+            this.nanos = nanos;
+            this.size = size;
+            this.preview = preview;
+            this.timestamp = System.currentTimeMillis();
+        }
+
+        public JacksonOperation getOperation() {
+            return operation;
+        }
+
+        public String getType() {
+            return type;
+        }
+
+        public long getNanos() {
+            return nanos;
+        }
+
+        public long getSize() {
+            return size;
+        }
+
+        public String getPreview() {
+            return preview;
+        }
+
+        public long getTimestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public String toString() {
+            return operation.getMethod() + " " + type + " " + nanos / 1e6 + "ms size=" + size + " " + preview;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package top.senseiliu.jackson;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link JacksonMetrics} 的 JMX 接口，Map 的 key 为 Jackson 的方法名
+ *
+ * @author liuguanliang
+ */
+public interface JacksonMetricsMXBean {
+    /**
+     * 成功次数
+     *
+     * @return 方法名 - 次数
+     */
+    Map<String, Long> getCounts();
+
+    /**
+     * 失败次数
+     *
+     * @return 方法名 - 次数
+     */
+    Map<String, Long> getErrors();
+
+    /**
+     * 平均耗时
+     *
+     * @return 方法名 - 毫秒
+     */
+    Map<String, Double> getMeanMillis();
+
+    /**
+     * p50 耗时
+     *
+     * @return 方法名 - 毫秒
+     */
+    Map<String, Double> getP50Millis();
+
+    /**
+     * p99 耗时
+     *
+     * @return 方法名 - 毫秒
+     */
+    Map<String, Double> getP99Millis();
+
+    /**
+     * p999 耗时
+     *
+     * @return 方法名 - 毫秒
+     */
+    Map<String, Double> getP999Millis();
+
+    /**
+     * 最大耗时
+     *
+     * @return 方法名 - 毫秒
+     */
+    Map<String, Double> getMaxMillis();
+
+    /**
+     * 输入总大小，String 按字符数，byte[] 按字节数
+     *
+     * @return 方法名 - 大小
+     */
+    Map<String, Long> getInputSize();
+
+    /**
+     * 输出总大小，String 按字符数，byte[] 按字节数
+     *
+     * @return 方法名 - 大小
+     */
+    Map<String, Long> getOutputSize();
+
+    /**
+     * 输入 p99 大小
+     *
+     * @return 方法名 - 大小
+     */
+    Map<String, Long> getP99InputSize();
+
+    /**
+     * 输出 p99 大小
+     *
+     * @return 方法名 - 大小
+     */
+    Map<String, Long> getP99OutputSize();
+
+    /**
+     * 按目标类型统计的次数
+     *
+     * @return 类型名 - 次数
+     */
+    Map<String, Long> getTypeCounts();
+
+    /**
+     * 最近的慢调用，包含内容的前一部分
+     *
+     * @return 慢调用
+     */
+    List<String> getSlowSamples();
+
+    /**
+     * 慢调用阈值
+     *
+     * @return 毫秒
+     */
+    long getSlowThresholdMillis();
+
+    /**
+     * 修改慢调用阈值
+     *
+     * @param slowThresholdMillis 毫秒
+     */
+    void setSlowThresholdMillis(long slowThresholdMillis);
+
+    /**
+     * 清空统计
+     */
+    void reset();
+}
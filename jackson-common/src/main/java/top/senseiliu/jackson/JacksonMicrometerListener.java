@@ -0,0 +1,120 @@
+package top.senseiliu.jackson;
+
+import java.lang.reflect.Type;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * 写入 Micrometer 的指标监听器，需要自行引入 micrometer-core
+ * <p>
+ * 指标均带有 method 标签，值为 Jackson 的方法名：
+ * <ul>
+ *     <li>jackson.operation：耗时，发布 p50 / p99 / p999 与直方图</li>
+ *     <li>jackson.input.size、jackson.output.size：字节输入输出的大小，单位 bytes</li>
+ *     <li>jackson.input.chars、jackson.output.chars：String 输入输出的长度，单位 chars，不换算为编码后的字节数</li>
+ *     <li>jackson.errors：失败次数</li>
+ *     <li>jackson.type：按目标类型（type 标签）统计的次数，类型数量有上限</li>
+ * </ul>
+ * 需要慢调用采样时可以与 {@link JacksonMetrics} 组合使用：
+ * <pre>
+ * Jackson.setListener(JacksonListener.composite(new JacksonMicrometerListener(registry), new JacksonMetrics()));
+ * </pre>
+ *
+ * @author liuguanliang
+ */
+public class JacksonMicrometerListener implements JacksonListener {
+    /**
+     * type 标签数量上限，超出的计入 other
+     */
+    private static final int MAX_TYPES = 256;
+    private static final String OTHER_TYPE = "other";
+
+    private final MeterRegistry registry;
+    private final Timer[] timers;
+    private final DistributionSummary[] inputs;
+    private final DistributionSummary[] outputs;
+    private final DistributionSummary[] inputChars;
+    private final DistributionSummary[] outputChars;
+    private final Counter[] errors;
+    private final Map<String, Counter> typeCounters = new ConcurrentHashMap<>();
+
+    public JacksonMicrometerListener(MeterRegistry registry) {
+        this.registry = registry;
+        JacksonOperation[] operations = JacksonOperation.values();
+        this.timers = new Timer[operations.length];
+        this.inputs = new DistributionSummary[operations.length];
+        this.outputs = new DistributionSummary[operations.length];
+        this.inputChars = new DistributionSummary[operations.length];
+        this.outputChars = new DistributionSummary[operations.length];
+        this.errors = new Counter[operations.length];
+        for (JacksonOperation operation : operations) {
+            int i = operation.ordinal();
+            timers[i] = Timer.builder("jackson.operation")
+                    .tag("method", operation.getMethod())
+                    .publishPercentiles(0.5, 0.99, 0.999)
+                    .publishPercentileHistogram()
+                    .register(registry);
+            inputs[i] = DistributionSummary.builder("jackson.input.size")
+                    .tag("method", operation.getMethod())
+                    .baseUnit("bytes")
+                    .register(registry);
+            outputs[i] = DistributionSummary.builder("jackson.output.size")
+                    .tag("method", operation.getMethod())
+                    .baseUnit("bytes")
+                    .register(registry);
+            inputChars[i] = DistributionSummary.builder("jackson.input.chars")
+                    .tag("method", operation.getMethod())
+                    .baseUnit("chars")
+                    .register(registry);
+            outputChars[i] = DistributionSummary.builder("jackson.output.chars")
+                    .tag("method", operation.getMethod())
+                    .baseUnit("chars")
+                    .register(registry);
+            errors[i] = Counter.builder("jackson.errors")
+                    .tag("method", operation.getMethod())
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void onSuccess(JacksonOperation operation, Type type, long nanos, long inputSize, long outputSize, Object payload) {
+        int i = operation.ordinal();
+        timers[i].record(nanos, TimeUnit.NANOSECONDS);
+        // String 的大小是字符数，与字节数分开记录
+        boolean chars = payload instanceof String;
+        if (inputSize >= 0) {
+            (chars ? inputChars : inputs)[i].record(inputSize);
+        }
+        if (outputSize >= 0) {
+            (chars ? outputChars : outputs)[i].record(outputSize);
+        }
+        if (type != null) {
+            typeCounter(operation, type).increment();
+        }
+    }
+
+    @Override
+    public void onFailure(JacksonOperation operation, Type type, long nanos, long inputSize, Throwable error) {
+        errors[operation.ordinal()].increment();
+    }
+
+    private Counter typeCounter(JacksonOperation operation, Type type) {
+        String key = operation.getMethod() + ' ' + type.getTypeName();
+        Counter counter = typeCounters.get(key);
+        if (counter == null) {
+            String typeName = typeCounters.size() >= MAX_TYPES ? OTHER_TYPE : type.getTypeName();
+            counter = typeCounters.computeIfAbsent(operation.getMethod() + ' ' + typeName,
+                    k -> Counter.builder("jackson.type")
+                            .tag("method", operation.getMethod())
+                            .tag("type", typeName)
+                            .register(registry));
+        }
+        return counter;
+    }
+}
@@ -0,0 +1,90 @@
+package top.senseiliu.jackson;
+
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * OBJECT_MAPPER 使用的节点工厂
+ * <p>
+ * 解析、valueToTree、createArrayNode 创建的数组元素全部为 int、long 或 double 时使用基本类型数组存储。
+ * 类型由第一个元素决定，不会在 int、long、double 之间提升（提升会改变节点类型与输出，比如 120 变成 120.0），
+ * 混合类型的数组（比如 [120, 30.5]）转换为普通的节点列表；不需要时通过系统属性 {@value #PRIMITIVE_ARRAY_PROPERTY}=false 关闭。
+ * 对象默认仍然是 LinkedHashMap 存储的 ObjectNode；启动时通过系统属性 {@value #PROPERTY}=true
+ * 改为紧凑的对象节点，字段按插入顺序存放在数组中，JacksonObject()、解析、valueToTree 创建的对象都会使用，
+ * 适合缓存大量小对象。删除字段的开销为 O(n)，字段很多并且频繁删除时不建议开启
+ *
+ * @author liuguanliang
+ */
+public final class JacksonNodeFactory extends JsonNodeFactory {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * 开启紧凑对象节点的系统属性
+     */
+    public static final String PROPERTY = "jackson.common.compact-object-node";
+
+    /**
+     * 关闭基本类型数组节点的系统属性，默认开启
+     */
+    public static final String PRIMITIVE_ARRAY_PROPERTY = "jackson.common.primitive-array-node";
+
+    private static final JacksonNodeFactory DEFAULT = new JacksonNodeFactory(false, true);
+    private static final JacksonNodeFactory COMPACT = new JacksonNodeFactory(true, true);
+    private static final JacksonNodeFactory DEFAULT_NODE_ARRAYS = new JacksonNodeFactory(false, false);
+    private static final JacksonNodeFactory COMPACT_NODE_ARRAYS = new JacksonNodeFactory(true, false);
+
+    private final boolean compact;
+    private final boolean primitiveArrays;
+
+    private JacksonNodeFactory(boolean compact, boolean primitiveArrays) {
+        this.compact = compact;
+        this.primitiveArrays = primitiveArrays;
+    }
+
+    /**
+     * 节点工厂，也可以用于其他 ObjectMapper：objectMapper.setNodeFactory(JacksonNodeFactory.of(true))
+     *
+     * @param compact 是否使用紧凑对象节点
+     * @return 节点工厂
+     */
+    public static JacksonNodeFactory of(boolean compact) {
+        return of(compact, true);
+    }
+
+    /**
+     * 节点工厂
+     *
+     * @param compact         是否使用紧凑对象节点
+     * @param primitiveArrays 数字数组是否使用基本类型数组存储，false 时与 ArrayNode 完全一致
+     * @return 节点工厂
+     */
+    public static JacksonNodeFactory of(boolean compact, boolean primitiveArrays) {
+        if (primitiveArrays) {
+            return compact ? COMPACT : DEFAULT;
+        }
+        return compact ? COMPACT_NODE_ARRAYS : DEFAULT_NODE_ARRAYS;
+    }
+
+    @Override
+    public ArrayNode arrayNode() {
+        return primitiveArrays ? new JacksonArrayNode(this) : super.arrayNode();
+    }
+
+    @Override
+    public ArrayNode arrayNode(int capacity) {
+        return primitiveArrays ? new JacksonArrayNode(this, capacity) : super.arrayNode(capacity);
+    }
+
+    @Override
+    public ObjectNode objectNode() {
+        return compact ? new JacksonObjectNode(this) : super.objectNode();
+    }
+
+    /**
+     * 反序列化后保持为同一个实例
+     */
+    private Object readResolve() {
+        return of(compact, primitiveArrays);
+    }
+}
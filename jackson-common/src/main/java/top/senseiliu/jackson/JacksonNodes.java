@@ -0,0 +1,161 @@
+package top.senseiliu.jackson;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Map;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import top.senseiliu.jackson.date.DateTimeMode;
+import top.senseiliu.jackson.date.DateTimes;
+
+/**
+ * 把 java 值转换为 JsonNode
+ * <p>
+ * 常见类型直接创建节点，不经过 OBJECT_MAPPER.valueToTree（每次调用都会创建 TokenBuffer）：
+ * 字符串、基本类型及其包装类型、BigDecimal、BigInteger、JsonNode、JacksonObject、JacksonArray、Date，
+ * 以及元素为以上类型的 java.util 集合。其余类型仍然使用 valueToTree，结果与之前完全一致；
+ * JsonNode、JacksonObject、JacksonArray 与之前一样复制一份，之后修改原对象不会影响已经放入的值
+ *
+ * @author liuguanliang
+ */
+final class JacksonNodes {
+    private JacksonNodes() {
+    }
+
+    static JsonNode toNode(Object value) {
+        JsonNodeFactory factory = Jackson.OBJECT_MAPPER.getNodeFactory();
+        if (value == null) {
+            return factory.nullNode();
+        }
+        if (value instanceof String) {
+            return factory.textNode((String) value);
+        }
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return factory.numberNode(((Number) value).intValue());
+        }
+        if (value instanceof Long) {
+            return factory.numberNode((Long) value);
+        }
+        if (value instanceof Double) {
+            return factory.numberNode((Double) value);
+        }
+        if (value instanceof Float) {
+            return factory.numberNode((Float) value);
+        }
+        if (value instanceof Boolean) {
+            return factory.booleanNode((Boolean) value);
+        }
+        if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            // 与 valueToTree 一致，默认去掉末尾的 0
+            if (Jackson.OBJECT_MAPPER.getDeserializationConfig().isEnabled(JsonNodeFeature.STRIP_TRAILING_BIGDECIMAL_ZEROES)) {
+                decimal = decimal.stripTrailingZeros();
+            }
+            return factory.numberNode(decimal);
+        }
+        if (value instanceof BigInteger) {
+            return factory.numberNode((BigInteger) value);
+        }
+        if (value instanceof JsonNode) {
+            return ((JsonNode) value).deepCopy();
+        }
+        if (value instanceof Jackson) {
+            Object node = ((Jackson) value).node();
+            if (node instanceof JsonNode) {
+                return ((JsonNode) node).deepCopy();
+            }
+        }
+        if (value instanceof Date) {
+            return toNode((Date) value, factory);
+        }
+        if (value instanceof Collection && value.getClass().getName().startsWith("java.util.")) {
+            Collection<?> collection = (Collection<?>) value;
+            ArrayNode arrayNode = factory.arrayNode(collection.size());
+            for (Object element : collection) {
+                arrayNode.add(toNode(element));
+            }
+            return arrayNode;
+        }
+
+        return Jackson.OBJECT_MAPPER.valueToTree(value);
+    }
+
+    /**
+     * 批量添加到 ArrayNode
+     * <p>
+     * 先取一次快照，元素都能直接创建节点时逐个创建，放入定长数组后一次性添加；
+     * 否则整体只调用一次 valueToTree，共用同一个 TokenBuffer，每种类型的序列化器只查找一次
+     */
+    static void addAll(ArrayNode target, Collection<?> values) {
+        Object[] array = values.toArray();
+        if (!isDirect(array)) {
+            target.addAll((ArrayNode) Jackson.OBJECT_MAPPER.valueToTree(array));
+            return;
+        }
+        JsonNode[] nodes = new JsonNode[array.length];
+        for (int i = 0; i < array.length; i++) {
+            nodes[i] = toNode(array[i]);
+        }
+        target.addAll(Arrays.asList(nodes));
+    }
+
+    /**
+     * 批量放入 ObjectNode，规则与 {@link #addAll(ArrayNode, Collection)} 相同，键的顺序与 map 一致
+     */
+    static void putAll(ObjectNode target, Map<String, ?> values) {
+        if (!isDirect(values.values().toArray())) {
+            target.setAll((ObjectNode) Jackson.OBJECT_MAPPER.valueToTree(values));
+            return;
+        }
+        for (Map.Entry<String, ?> entry : values.entrySet()) {
+            target.replace(entry.getKey(), toNode(entry.getValue()));
+        }
+    }
+
+    /**
+     * 是否都能不经过 valueToTree 直接创建节点
+     */
+    private static boolean isDirect(Object[] values) {
+        for (Object value : values) {
+            if (!isDirect(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isDirect(Object value) {
+        if (value == null || value instanceof String || value instanceof Integer || value instanceof Long
+                || value instanceof Double || value instanceof Boolean || value instanceof Short
+                || value instanceof Byte || value instanceof Float || value instanceof BigDecimal
+                || value instanceof BigInteger || value instanceof JsonNode || value instanceof Date) {
+            return true;
+        }
+        if (value instanceof Jackson) {
+            return ((Jackson) value).node() instanceof JsonNode;
+        }
+        if (value instanceof Collection && value.getClass().getName().startsWith("java.util.")) {
+            return isDirect(((Collection<?>) value).toArray());
+        }
+        return false;
+    }
+
+    /**
+     * 与 DateSerializer 的输出一致，按全局的 DateTimeMode 输出字符串或时间戳
+     */
+    private static JsonNode toNode(Date value, JsonNodeFactory factory) {
+        DateTimeMode mode = DateTimes.getMode();
+        if (mode == DateTimeMode.STRING) {
+            return factory.textNode(DateTimes.format(value));
+        }
+        long millis = value.getTime();
+        return factory.numberNode(mode == DateTimeMode.EPOCH_SECONDS ? Math.floorDiv(millis, 1000L) : millis);
+    }
+}
@@ -39,6 +39,11 @@ public class JacksonObject extends Jackson {
         return objectNode;
     }
 
+    @Override
+    Object node() {
+        return objectNode;
+    }
+
     /**
      * 反序列化指定函数
      *
@@ -112,7 +117,7 @@ public class JacksonObject extends Jackson {
     public Object getObject(String key) {
         JsonNode jsonNode = objectNode.get(key);
 
-        return OBJECT_MAPPER.convertValue(jsonNode, Object.class);
+        return JacksonRegistry.binding(Object.class).fromNode(jsonNode);
     }
 
     /**
@@ -139,14 +144,13 @@ public class JacksonObject extends Jackson {
     public <T> T getObject(String key, Class<T> clazz) {
         JsonNode jsonNode = objectNode.get(key);
 
-        return OBJECT_MAPPER.convertValue(jsonNode, clazz);
+        return JacksonRegistry.<T>binding(clazz).fromNode(jsonNode);
     }
 
     public <T> T getJavaObject(String key) {
         JsonNode jsonNode = objectNode.get(key);
 
-        return OBJECT_MAPPER.convertValue(jsonNode, new TypeReference<T>() {
-        });
+        return JacksonRegistry.<T>binding(Object.class).fromNode(jsonNode);
     }
 
     /**
@@ -160,7 +164,7 @@ public class JacksonObject extends Jackson {
     public <T> T getObject(String key, TypeReference<T> typeReference) {
         JsonNode jsonNode = objectNode.get(key);
 
-        return OBJECT_MAPPER.convertValue(jsonNode, typeReference);
+        return JacksonRegistry.<T>binding(typeReference.getType()).fromNode(jsonNode);
     }
 
     /**
@@ -174,11 +178,7 @@ public class JacksonObject extends Jackson {
     public boolean booleanValue(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.isBoolean()) {
-            return value.asBoolean();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, boolean.class);
+        return JacksonCoercion.toBooleanValue(value);
     }
 
     /**
@@ -192,11 +192,7 @@ public class JacksonObject extends Jackson {
     public Boolean getBoolean(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.isBoolean()) {
-            return value.asBoolean();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Boolean.class);
+        return JacksonCoercion.toBoolean(value);
     }
 
     /**
@@ -230,11 +226,7 @@ public class JacksonObject extends Jackson {
     public short shortValue(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.canConvertToInt()) {
-            return value.shortValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, short.class);
+        return JacksonCoercion.toShortValue(value);
     }
 
     /**
@@ -246,11 +238,7 @@ public class JacksonObject extends Jackson {
     public Short getShort(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.canConvertToInt()) {
-            return value.shortValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Short.class);
+        return JacksonCoercion.toShort(value);
     }
 
     /**
@@ -262,11 +250,7 @@ public class JacksonObject extends Jackson {
     public int intValue(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.canConvertToInt()) {
-            return value.intValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, int.class);
+        return JacksonCoercion.toIntValue(value);
     }
 
     /**
@@ -278,11 +262,7 @@ public class JacksonObject extends Jackson {
     public Integer getInteger(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.canConvertToInt()) {
-            return value.intValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Integer.class);
+        return JacksonCoercion.toInteger(value);
     }
 
     /**
@@ -294,11 +274,7 @@ public class JacksonObject extends Jackson {
     public long longValue(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.canConvertToLong()) {
-            return value.longValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, long.class);
+        return JacksonCoercion.toLongValue(value);
     }
 
     /**
@@ -310,11 +286,7 @@ public class JacksonObject extends Jackson {
     public Long getLong(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.canConvertToLong()) {
-            return value.longValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Long.class);
+        return JacksonCoercion.toLong(value);
     }
 
     /**
@@ -326,11 +298,7 @@ public class JacksonObject extends Jackson {
     public float floatValue(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.isFloatingPointNumber()) {
-            return value.floatValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, float.class);
+        return JacksonCoercion.toFloatValue(value);
     }
 
     /**
@@ -342,11 +310,7 @@ public class JacksonObject extends Jackson {
     public Float getFloat(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.isFloatingPointNumber()) {
-            return value.floatValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Float.class);
+        return JacksonCoercion.toFloat(value);
     }
 
     /**
@@ -358,11 +322,7 @@ public class JacksonObject extends Jackson {
     public double doubleValue(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.canConvertToInt()) {
-            return value.doubleValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, double.class);
+        return JacksonCoercion.toDoubleValue(value);
     }
 
     /**
@@ -374,11 +334,7 @@ public class JacksonObject extends Jackson {
     public Double getDouble(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.canConvertToInt()) {
-            return value.doubleValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, Double.class);
+        return JacksonCoercion.toDouble(value);
     }
 
     /**
@@ -390,11 +346,7 @@ public class JacksonObject extends Jackson {
     public BigDecimal getBigDecimal(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.isBigDecimal()) {
-            return value.decimalValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, BigDecimal.class);
+        return JacksonCoercion.toBigDecimal(value);
     }
 
     /**
@@ -406,11 +358,7 @@ public class JacksonObject extends Jackson {
     public BigInteger getBigInteger(String key) {
         JsonNode value = objectNode.get(key);
 
-        if (value.canConvertToInt()) {
-            return value.bigIntegerValue();
-        }
-
-        return OBJECT_MAPPER.convertValue(value, BigInteger.class);
+        return JacksonCoercion.toBigInteger(value);
     }
 
     /**
@@ -440,7 +388,7 @@ public class JacksonObject extends Jackson {
     public Date getDateTime(String key) {
         JsonNode value = objectNode.get(key);
 
-        return OBJECT_MAPPER.convertValue(value, Date.class);
+        return JacksonCoercion.toDate(value);
     }
 
     /**
@@ -471,6 +419,17 @@ public class JacksonObject extends Jackson {
         return objectNode.has(key);
     }
 
+    /**
+     * 添加所有键值对，整体转换一次，值可以 null
+     *
+     * @param map 键值对
+     * @return 自身 JacksonObject
+     */
+    public JacksonObject putAll(Map<String, ?> map) {
+        JacksonNodes.putAll(objectNode, map);
+        return this;
+    }
+
     /**
      * 添加键值对，值可以 null
      *
@@ -479,7 +438,91 @@ public class JacksonObject extends Jackson {
      * @return 自身 JacksonObject
      */
     public JacksonObject put(String key, Object value) {
-        objectNode.replace(key, OBJECT_MAPPER.valueToTree(value));
+        objectNode.replace(key, JacksonNodes.toNode(value));
+        return this;
+    }
+
+    /**
+     * 添加键值对，值可以 null
+     *
+     * @param key   key
+     * @param value 字符串
+     * @return 自身 JacksonObject
+     */
+    public JacksonObject put(String key, String value) {
+        objectNode.put(key, value);
+        return this;
+    }
+
+    /**
+     * 添加键值对
+     *
+     * @param key   key
+     * @param value int
+     * @return 自身 JacksonObject
+     */
+    public JacksonObject put(String key, int value) {
+        objectNode.put(key, value);
+        return this;
+    }
+
+    /**
+     * 添加键值对
+     *
+     * @param key   key
+     * @param value long
+     * @return 自身 JacksonObject
+     */
+    public JacksonObject put(String key, long value) {
+        objectNode.put(key, value);
+        return this;
+    }
+
+    /**
+     * 添加键值对
+     *
+     * @param key   key
+     * @param value double
+     * @return 自身 JacksonObject
+     */
+    public JacksonObject put(String key, double value) {
+        objectNode.put(key, value);
+        return this;
+    }
+
+    /**
+     * 添加键值对
+     *
+     * @param key   key
+     * @param value float
+     * @return 自身 JacksonObject
+     */
+    public JacksonObject put(String key, float value) {
+        objectNode.put(key, value);
+        return this;
+    }
+
+    /**
+     * 添加键值对，char 作为长度为 1 的字符串
+     *
+     * @param key   key
+     * @param value char
+     * @return 自身 JacksonObject
+     */
+    public JacksonObject put(String key, char value) {
+        objectNode.put(key, String.valueOf(value));
+        return this;
+    }
+
+    /**
+     * 添加键值对
+     *
+     * @param key   key
+     * @param value boolean
+     * @return 自身 JacksonObject
+     */
+    public JacksonObject put(String key, boolean value) {
+        objectNode.put(key, value);
         return this;
     }
 
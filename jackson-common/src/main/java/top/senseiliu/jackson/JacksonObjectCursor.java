@@ -0,0 +1,109 @@
+package top.senseiliu.jackson;
+
+import java.io.Closeable;
+import java.util.NoSuchElementException;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 在 JsonParser 上逐个读取 json 对象，{@link JacksonArrayIterator} 与 {@link JacksonLineReader} 共用
+ * <p>
+ * 读到结束 token（数组为 END_ARRAY，NDJSON 为输入结束）、发生异常或元素不是对象时关闭 JsonParser
+ *
+ * @author liuguanliang
+ */
+final class JacksonObjectCursor implements Closeable {
+    /**
+     * 数据来源
+     */
+    private final JsonParser parser;
+
+    /**
+     * 结束 token，null 表示读到输入结束
+     */
+    private final JsonToken end;
+
+    /**
+     * 异常信息中的操作名称
+     */
+    private final String action;
+
+    /**
+     * 是否已经读到下一个对象的起始 token
+     */
+    private boolean pending;
+
+    /**
+     * 是否已经读完
+     */
+    private boolean finished;
+
+    JacksonObjectCursor(JsonParser parser, JsonToken end, String action) {
+        this.parser = parser;
+        this.end = end;
+        this.action = action;
+    }
+
+    boolean hasNext() {
+        if (pending) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+
+        try {
+            if (parser.nextToken() == end) {
+                close();
+                return false;
+            }
+        } catch (Exception e) {
+            throw fail(e.getMessage());
+        }
+
+        pending = true;
+        return true;
+    }
+
+    JacksonObject next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        pending = false;
+
+        JsonNode node;
+        try {
+            node = Jackson.OBJECT_MAPPER.readTree(parser);
+        } catch (Exception e) {
+            throw fail(e.getMessage());
+        }
+
+        if (!node.isObject()) {
+            throw fail("元素不是对象，" + node.getNodeType());
+        }
+
+        return new JacksonObject((ObjectNode) node);
+    }
+
+    /**
+     * 关闭数据来源并返回异常
+     */
+    RuntimeException fail(String msg) {
+        close();
+        return new RuntimeException("[Jackson]" + action + "时发生异常，msg:" + msg);
+    }
+
+    @Override
+    public void close() {
+        finished = true;
+        pending = false;
+        try {
+            parser.close();
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]关闭JsonParser时发生异常，msg:" + e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,358 @@
+package top.senseiliu.jackson;
+
+import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.JsonNodeFeature;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 使用紧凑 map 存储字段的 ObjectNode
+ * <p>
+ * 字段按插入顺序交替存放在同一个数组中（key0, value0, key1, value1 ...），不为每个字段创建 LinkedHashMap 的 Entry，
+ * 也没有 LinkedHashMap 本身的哈希表、头尾指针等开销。字段不超过 {@value Fields#INDEX_THRESHOLD} 个时线性查找，
+ * 更多时额外维护一个开放寻址的下标表。删除字段需要移动数组，适合读多写少、数量多的小对象（缓存、响应体）
+ *
+ * @author liuguanliang
+ */
+@SuppressWarnings("unchecked")
+final class JacksonObjectNode extends ObjectNode {
+    private static final long serialVersionUID = 1L;
+
+    JacksonObjectNode(JsonNodeFactory nf) {
+        super(nf, new Fields(0));
+    }
+
+    private JacksonObjectNode(JsonNodeFactory nf, Fields fields) {
+        super(nf, fields);
+    }
+
+    /**
+     * 不过滤、不排序时直接遍历数组，不创建 Entry；其余情况与 ObjectNode 一致
+     */
+    @Override
+    public void serialize(JsonGenerator g, SerializerProvider provider) throws IOException {
+        if (provider != null && (skipsEmptyArrays(provider)
+                || !provider.isEnabled(JsonNodeFeature.WRITE_NULL_PROPERTIES)
+                || provider.isEnabled(JsonNodeFeature.WRITE_PROPERTIES_SORTED))) {
+            super.serialize(g, provider);
+            return;
+        }
+        Fields fields = (Fields) _children;
+        g.writeStartObject(this);
+        for (int i = 0; i < fields.size; i++) {
+            g.writeFieldName(fields.keyAt(i));
+            fields.valueAt(i).serialize(g, provider);
+        }
+        g.writeEndObject();
+    }
+
+    /**
+     * 该特性已废弃但 ObjectNode 仍然遵守，关闭时交给 ObjectNode 过滤空数组，保证输出一致
+     */
+    @SuppressWarnings("deprecation")
+    private static boolean skipsEmptyArrays(SerializerProvider provider) {
+        return !provider.isEnabled(SerializationFeature.WRITE_EMPTY_JSON_ARRAYS);
+    }
+
+    @Override
+    public ObjectNode deepCopy() {
+        Fields fields = (Fields) _children;
+        Fields copy = new Fields(fields.size);
+        for (int i = 0; i < fields.size; i++) {
+            copy.put(fields.keyAt(i), fields.valueAt(i).deepCopy());
+        }
+        return new JacksonObjectNode(_nodeFactory, copy);
+    }
+
+    /**
+     * 保持插入顺序的紧凑 map，key 不能为 null
+     */
+    private static final class Fields extends AbstractMap<String, JsonNode> {
+        /**
+         * 超过该数量时使用下标表查找
+         */
+        private static final int INDEX_THRESHOLD = 16;
+
+        /**
+         * key、value 交替存放
+         */
+        private Object[] table;
+        private int size;
+        /**
+         * 开放寻址（线性探测）的下标表，存放 下标 + 1，0 为空；字段较少时为 null
+         */
+        private int[] index;
+        private int modCount;
+
+        private Fields(int capacity) {
+            table = new Object[capacity * 2];
+        }
+
+        private String keyAt(int i) {
+            return (String) table[i << 1];
+        }
+
+        private JsonNode valueAt(int i) {
+            return (JsonNode) table[(i << 1) + 1];
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return indexOf(key) >= 0;
+        }
+
+        @Override
+        public JsonNode get(Object key) {
+            int i = indexOf(key);
+            return i < 0 ? null : valueAt(i);
+        }
+
+        @Override
+        public JsonNode put(String key, JsonNode value) {
+            int i = indexOf(key);
+            if (i >= 0) {
+                JsonNode old = valueAt(i);
+                table[(i << 1) + 1] = value;
+                return old;
+            }
+            if (key == null) {
+                throw new NullPointerException("key");
+            }
+            if (size << 1 == table.length) {
+                int capacity = size < 4 ? 4 : size + (size >> 1);
+                table = Arrays.copyOf(table, capacity << 1);
+            }
+            table[size << 1] = key;
+            table[(size << 1) + 1] = value;
+            size++;
+            modCount++;
+            if (index != null) {
+                if (size * 4 > index.length * 3) {
+                    rebuildIndex();
+                } else {
+                    insertIndex(size - 1);
+                }
+            } else if (size > INDEX_THRESHOLD) {
+                rebuildIndex();
+            }
+            return null;
+        }
+
+        @Override
+        public JsonNode remove(Object key) {
+            int i = indexOf(key);
+            if (i < 0) {
+                return null;
+            }
+            JsonNode old = valueAt(i);
+            removeAt(i);
+            return old;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(table, 0, size << 1, null);
+            size = 0;
+            index = null;
+            modCount++;
+        }
+
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            return new EntrySet();
+        }
+
+        private int indexOf(Object key) {
+            if (key == null) {
+                return -1;
+            }
+            if (index == null) {
+                for (int i = 0; i < size; i++) {
+                    if (key.equals(table[i << 1])) {
+                        return i;
+                    }
+                }
+                return -1;
+            }
+            int mask = index.length - 1;
+            for (int slot = hash(key) & mask; ; slot = (slot + 1) & mask) {
+                int position = index[slot];
+                if (position == 0) {
+                    return -1;
+                }
+                if (key.equals(keyAt(position - 1))) {
+                    return position - 1;
+                }
+            }
+        }
+
+        private void removeAt(int i) {
+            System.arraycopy(table, (i + 1) << 1, table, i << 1, (size - i - 1) << 1);
+            size--;
+            table[size << 1] = null;
+            table[(size << 1) + 1] = null;
+            modCount++;
+            // 删除后下标整体变化，重建下标表
+            if (index != null) {
+                if (size > INDEX_THRESHOLD) {
+                    rebuildIndex();
+                } else {
+                    index = null;
+                }
+            }
+        }
+
+        /**
+         * 负载不超过 0.75
+         */
+        private void rebuildIndex() {
+            int length = Integer.highestOneBit((size * 4 + 2) / 3 - 1) << 1;
+            index = new int[length];
+            for (int i = 0; i < size; i++) {
+                insertIndex(i);
+            }
+        }
+
+        private void insertIndex(int i) {
+            int mask = index.length - 1;
+            int slot = hash(table[i << 1]) & mask;
+            while (index[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            index[slot] = i + 1;
+        }
+
+        private static int hash(Object key) {
+            int h = key.hashCode();
+            return h ^ (h >>> 16);
+        }
+
+        private final class EntrySet extends AbstractSet<Entry<String, JsonNode>> {
+            @Override
+            public int size() {
+                return size;
+            }
+
+            @Override
+            public void clear() {
+                Fields.this.clear();
+            }
+
+            @Override
+            public Iterator<Entry<String, JsonNode>> iterator() {
+                return new EntryIterator();
+            }
+        }
+
+        private final class EntryIterator implements Iterator<Entry<String, JsonNode>> {
+            private int next;
+            private int last = -1;
+            private int expectedModCount = modCount;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public Entry<String, JsonNode> next() {
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                last = next++;
+                return new FieldEntry(last);
+            }
+
+            @Override
+            public void remove() {
+                if (last < 0) {
+                    throw new IllegalStateException();
+                }
+                if (modCount != expectedModCount) {
+                    throw new ConcurrentModificationException();
+                }
+                removeAt(last);
+                next = last;
+                last = -1;
+                expectedModCount = modCount;
+            }
+        }
+
+        /**
+         * 迭代时的字段，setValue 直接写回数组
+         */
+        private final class FieldEntry implements Entry<String, JsonNode> {
+            private final String key;
+            private JsonNode value;
+            private final int position;
+
+            private FieldEntry(int position) {
+                this.key = keyAt(position);
+                this.value = valueAt(position);
+                this.position = position;
+            }
+
+            @Override
+            public String getKey() {
+                return key;
+            }
+
+            @Override
+            public JsonNode getValue() {
+                return value;
+            }
+
+            @Override
+            public JsonNode setValue(JsonNode value) {
+                JsonNode old = this.value;
+                if (position < size && table[position << 1] == key) {
+                    table[(position << 1) + 1] = value;
+                } else {
+                    put(key, value);
+                }
+                this.value = value;
+                return old;
+            }
+
+            @Override
+            public boolean equals(Object o) {
+                if (!(o instanceof Map.Entry)) {
+                    return false;
+                }
+                Map.Entry<?, ?> e = (Map.Entry<?, ?>) o;
+                return key.equals(e.getKey()) && (value == null ? e.getValue() == null : value.equals(e.getValue()));
+            }
+
+            @Override
+            public int hashCode() {
+                return key.hashCode() ^ (value == null ? 0 : value.hashCode());
+            }
+
+            @Override
+            public String toString() {
+                return key + "=" + value;
+            }
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package top.senseiliu.jackson;
+
+/**
+ * {@link JacksonListener} 记录的操作类型，与 Jackson 的方法对应
+ *
+ * @author liuguanliang
+ */
+public enum JacksonOperation {
+    /**
+     * Jackson.parseObject
+     */
+    PARSE_OBJECT("parseObject"),
+
+    /**
+     * Jackson.parseObjectLazy
+     */
+    PARSE_OBJECT_LAZY("parseObjectLazy"),
+
+    /**
+     * Jackson.parseArray
+     */
+    PARSE_ARRAY("parseArray"),
+
+    /**
+     * Jackson.parseJavaObject
+     */
+    PARSE_JAVA_OBJECT("parseJavaObject"),
+
+    /**
+     * Jackson.convert
+     */
+    CONVERT("convert"),
+
+    /**
+     * Jackson.objectToString、objectToStringPretty
+     */
+    OBJECT_TO_STRING("objectToString"),
+
+    /**
+     * Jackson.objectToBytes
+     */
+    OBJECT_TO_BYTES("objectToBytes"),
+
+    /**
+     * Jackson.objectToStream
+     */
+    OBJECT_TO_STREAM("objectToStream"),
+
+    /**
+     * Jackson.objectToWriter
+     */
+    OBJECT_TO_WRITER("objectToWriter"),
+
+    /**
+     * Jackson.objectToBuffer
+     */
+    OBJECT_TO_BUFFER("objectToBuffer"),
+
+    /**
+     * Jackson.objectToChannel，异步写入文件时只包含序列化
+     */
+    OBJECT_TO_CHANNEL("objectToChannel");
+
+    /**
+     * 对应的方法名，用作指标的标签
+     */
+    private final String method;
+
+    JacksonOperation(String method) {
+        this.method = method;
+    }
+
+    public String getMethod() {
+        return method;
+    }
+}
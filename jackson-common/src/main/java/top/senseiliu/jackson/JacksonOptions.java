@@ -0,0 +1,215 @@
+package top.senseiliu.jackson;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Objects;
+import java.util.Set;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import top.senseiliu.jackson.date.DateTimeMode;
+
+/**
+ * 单次调用的序列化/反序列化选项
+ * <p>
+ * 不可变对象，每个 with 方法都返回新的实例，可以放在静态常量中复用。
+ * 相同选项对应的 ObjectWriter / ObjectReader 只会构建一次，之后从缓存中获取，不会再复制 OBJECT_MAPPER
+ *
+ * @author liuguanliang
+ */
+public final class JacksonOptions {
+    /**
+     * 默认选项，与 OBJECT_MAPPER 的配置完全一致
+     */
+    public static final JacksonOptions DEFAULT = new JacksonOptions(null, false,
+            EnumSet.noneOf(SerializationFeature.class), EnumSet.noneOf(SerializationFeature.class),
+            EnumSet.noneOf(DeserializationFeature.class), EnumSet.noneOf(DeserializationFeature.class), null);
+
+    /**
+     * 带缩进的选项
+     */
+    public static final JacksonOptions PRETTY = DEFAULT.pretty(true);
+
+    private final PropertyNamingStrategy namingStrategy;
+    private final boolean pretty;
+    private final Set<SerializationFeature> enabledSerialization;
+    private final Set<SerializationFeature> disabledSerialization;
+    private final Set<DeserializationFeature> enabledDeserialization;
+    private final Set<DeserializationFeature> disabledDeserialization;
+    private final DateTimeMode dateTimeMode;
+    private final int hashCode;
+
+    private JacksonOptions(PropertyNamingStrategy namingStrategy, boolean pretty,
+                           Set<SerializationFeature> enabledSerialization, Set<SerializationFeature> disabledSerialization,
+                           Set<DeserializationFeature> enabledDeserialization, Set<DeserializationFeature> disabledDeserialization,
+                           DateTimeMode dateTimeMode) {
+        this.namingStrategy = namingStrategy;
+        this.pretty = pretty;
+        this.enabledSerialization = Collections.unmodifiableSet(enabledSerialization);
+        this.disabledSerialization = Collections.unmodifiableSet(disabledSerialization);
+        this.enabledDeserialization = Collections.unmodifiableSet(enabledDeserialization);
+        this.disabledDeserialization = Collections.unmodifiableSet(disabledDeserialization);
+        this.dateTimeMode = dateTimeMode;
+        this.hashCode = Objects.hash(namingStrategy, pretty, enabledSerialization, disabledSerialization,
+                enabledDeserialization, disabledDeserialization, dateTimeMode);
+    }
+
+    /**
+     * 指定属性命名策略，注解 @JsonProperty 优先级仍然更高
+     *
+     * @param namingStrategy 命名策略，为 null 时使用 OBJECT_MAPPER 的命名策略
+     * @return 新的选项
+     */
+    public JacksonOptions namingStrategy(PropertyNamingStrategy namingStrategy) {
+        return new JacksonOptions(namingStrategy, pretty, enabledSerialization, disabledSerialization,
+                enabledDeserialization, disabledDeserialization, dateTimeMode);
+    }
+
+    /**
+     * 是否带缩进输出
+     *
+     * @param pretty true or false
+     * @return 新的选项
+     */
+    public JacksonOptions pretty(boolean pretty) {
+        return new JacksonOptions(namingStrategy, pretty, enabledSerialization, disabledSerialization,
+                enabledDeserialization, disabledDeserialization, dateTimeMode);
+    }
+
+    /**
+     * 指定 Date 与 java.time 的输出方式，反序列化时决定整数时间戳的单位
+     *
+     * @param dateTimeMode 输出方式，为 null 时使用全局设置
+     * @return 新的选项
+     */
+    public JacksonOptions dateTimeMode(DateTimeMode dateTimeMode) {
+        return new JacksonOptions(namingStrategy, pretty, enabledSerialization, disabledSerialization,
+                enabledDeserialization, disabledDeserialization, dateTimeMode);
+    }
+
+    /**
+     * 开启序列化特性
+     *
+     * @param features 序列化特性
+     * @return 新的选项
+     */
+    public JacksonOptions enable(SerializationFeature... features) {
+        Set<SerializationFeature> enabled = copyOf(enabledSerialization, SerializationFeature.class);
+        Set<SerializationFeature> disabled = copyOf(disabledSerialization, SerializationFeature.class);
+        for (SerializationFeature feature : features) {
+            enabled.add(feature);
+            disabled.remove(feature);
+        }
+        return new JacksonOptions(namingStrategy, pretty, enabled, disabled,
+                enabledDeserialization, disabledDeserialization, dateTimeMode);
+    }
+
+    /**
+     * 关闭序列化特性
+     *
+     * @param features 序列化特性
+     * @return 新的选项
+     */
+    public JacksonOptions disable(SerializationFeature... features) {
+        Set<SerializationFeature> enabled = copyOf(enabledSerialization, SerializationFeature.class);
+        Set<SerializationFeature> disabled = copyOf(disabledSerialization, SerializationFeature.class);
+        for (SerializationFeature feature : features) {
+            disabled.add(feature);
+            enabled.remove(feature);
+        }
+        return new JacksonOptions(namingStrategy, pretty, enabled, disabled,
+                enabledDeserialization, disabledDeserialization, dateTimeMode);
+    }
+
+    /**
+     * 开启反序列化特性
+     *
+     * @param features 反序列化特性
+     * @return 新的选项
+     */
+    public JacksonOptions enable(DeserializationFeature... features) {
+        Set<DeserializationFeature> enabled = copyOf(enabledDeserialization, DeserializationFeature.class);
+        Set<DeserializationFeature> disabled = copyOf(disabledDeserialization, DeserializationFeature.class);
+        for (DeserializationFeature feature : features) {
+            enabled.add(feature);
+            disabled.remove(feature);
+        }
+        return new JacksonOptions(namingStrategy, pretty, enabledSerialization, disabledSerialization,
+                enabled, disabled, dateTimeMode);
+    }
+
+    /**
+     * 关闭反序列化特性
+     *
+     * @param features 反序列化特性
+     * @return 新的选项
+     */
+    public JacksonOptions disable(DeserializationFeature... features) {
+        Set<DeserializationFeature> enabled = copyOf(enabledDeserialization, DeserializationFeature.class);
+        Set<DeserializationFeature> disabled = copyOf(disabledDeserialization, DeserializationFeature.class);
+        for (DeserializationFeature feature : features) {
+            disabled.add(feature);
+            enabled.remove(feature);
+        }
+        return new JacksonOptions(namingStrategy, pretty, enabledSerialization, disabledSerialization,
+                enabled, disabled, dateTimeMode);
+    }
+
+    public PropertyNamingStrategy getNamingStrategy() {
+        return namingStrategy;
+    }
+
+    public boolean isPretty() {
+        return pretty;
+    }
+
+    public Set<SerializationFeature> getEnabledSerialization() {
+        return enabledSerialization;
+    }
+
+    public Set<SerializationFeature> getDisabledSerialization() {
+        return disabledSerialization;
+    }
+
+    public Set<DeserializationFeature> getEnabledDeserialization() {
+        return enabledDeserialization;
+    }
+
+    public Set<DeserializationFeature> getDisabledDeserialization() {
+        return disabledDeserialization;
+    }
+
+    public DateTimeMode getDateTimeMode() {
+        return dateTimeMode;
+    }
+
+    private static <E extends Enum<E>> Set<E> copyOf(Set<E> source, Class<E> type) {
+        Set<E> set = EnumSet.noneOf(type);
+        set.addAll(source);
+        return set;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JacksonOptions)) {
+            return false;
+        }
+        JacksonOptions that = (JacksonOptions) o;
+        return pretty == that.pretty
+                && dateTimeMode == that.dateTimeMode
+                && Objects.equals(namingStrategy, that.namingStrategy)
+                && enabledSerialization.equals(that.enabledSerialization)
+                && disabledSerialization.equals(that.disabledSerialization)
+                && enabledDeserialization.equals(that.enabledDeserialization)
+                && disabledDeserialization.equals(that.disabledDeserialization);
+    }
+
+    @Override
+    public int hashCode() {
+        return hashCode;
+    }
+}
@@ -0,0 +1,379 @@
+package top.senseiliu.jackson;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * 预编译的取值路径，在 JsonParser 上流式查找，不构建整棵树
+ * <p>
+ * 支持两种写法：
+ * <ul>
+ *     <li>JsonPath 子集：$.order.customer.id、$.items[0].name、$['a.b']</li>
+ *     <li>JSON Pointer：/order/customer/id、/items/0/name</li>
+ * </ul>
+ * 不匹配的子树直接 skipChildren 跳过，只有目标值会被构建成 JsonNode，所有目标找到后立即停止解析。
+ * 编译后的路径不可变，线程安全，建议保存在静态常量中
+ *
+ * @author liuguanliang
+ */
+public final class JacksonPath {
+    /**
+     * 原始表达式
+     */
+    private final String expression;
+
+    /**
+     * 每一级的字段名，只能匹配数组下标时为 null
+     */
+    private final String[] names;
+
+    /**
+     * 每一级的数组下标，只能匹配字段名时为 -1
+     */
+    private final int[] indexes;
+
+    /**
+     * 只包含自身的前缀树，单个路径查找时复用
+     */
+    private final Trie trie;
+
+    private JacksonPath(String expression, String[] names, int[] indexes) {
+        this.expression = expression;
+        this.names = names;
+        this.indexes = indexes;
+        this.trie = new Trie();
+        insert(trie, 0);
+    }
+
+    /**
+     * 编译路径
+     *
+     * @param expression $.a.b[0] 或 /a/b/0
+     * @return 路径
+     */
+    public static JacksonPath compile(String expression) {
+        List<String> names = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        if (expression.startsWith("$")) {
+            compileJsonPath(expression, names, indexes);
+        } else if (expression.isEmpty() || expression.startsWith("/")) {
+            compilePointer(expression, names, indexes);
+        } else {
+            throw new IllegalArgumentException("[Jackson]路径必须以 $ 或 / 开头:" + expression);
+        }
+
+        int[] indexArray = new int[indexes.size()];
+        for (int i = 0; i < indexArray.length; i++) {
+            indexArray[i] = indexes.get(i);
+        }
+        return new JacksonPath(expression, names.toArray(new String[0]), indexArray);
+    }
+
+    private static void compileJsonPath(String expression, List<String> names, List<Integer> indexes) {
+        int i = 1;
+        int length = expression.length();
+        while (i < length) {
+            char c = expression.charAt(i);
+            if (c == '.') {
+                int end = i + 1;
+                while (end < length && expression.charAt(end) != '.' && expression.charAt(end) != '[') {
+                    end++;
+                }
+                if (end == i + 1) {
+                    throw new IllegalArgumentException("[Jackson]路径中存在空的字段名:" + expression);
+                }
+                String name = expression.substring(i + 1, end);
+                if ("*".equals(name)) {
+                    throw new IllegalArgumentException("[Jackson]路径不支持通配符:" + expression);
+                }
+                names.add(name);
+                indexes.add(-1);
+                i = end;
+            } else if (c == '[') {
+                int end = expression.indexOf(']', i);
+                if (end < 0) {
+                    throw new IllegalArgumentException("[Jackson]路径中的 [ 没有闭合:" + expression);
+                }
+                String segment = expression.substring(i + 1, end).trim();
+                if (segment.length() >= 2 && (segment.charAt(0) == '\'' || segment.charAt(0) == '"')
+                        && segment.charAt(segment.length() - 1) == segment.charAt(0)) {
+                    names.add(segment.substring(1, segment.length() - 1));
+                    indexes.add(-1);
+                } else {
+                    names.add(null);
+                    indexes.add(parseIndex(segment, expression));
+                }
+                i = end + 1;
+            } else {
+                throw new IllegalArgumentException("[Jackson]路径格式错误:" + expression);
+            }
+        }
+    }
+
+    private static void compilePointer(String expression, List<String> names, List<Integer> indexes) {
+        if (expression.isEmpty()) {
+            return;
+        }
+        for (String segment : expression.substring(1).split("/", -1)) {
+            String name = segment.replace("~1", "/").replace("~0", "~");
+            names.add(name);
+            // JSON Pointer 中的数字既可以是字段名，也可以是数组下标
+            indexes.add(isIndex(name) ? Integer.parseInt(name) : -1);
+        }
+    }
+
+    private static boolean isIndex(String segment) {
+        if (segment.isEmpty() || segment.length() > 9 || (segment.length() > 1 && segment.charAt(0) == '0')) {
+            return false;
+        }
+        for (int i = 0; i < segment.length(); i++) {
+            if (!Character.isDigit(segment.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int parseIndex(String segment, String expression) {
+        if (!isIndex(segment)) {
+            throw new IllegalArgumentException("[Jackson]路径中的数组下标不合法:" + expression);
+        }
+        return Integer.parseInt(segment);
+    }
+
+    /**
+     * 在 json string 中查找路径对应的值
+     *
+     * @param text json string
+     * @return 路径对应的值，不存在时返回 null
+     */
+    public JsonNode read(String text) {
+        try (JsonParser parser = Jackson.OBJECT_MAPPER.createParser(text)) {
+            return read(parser, trie, new JacksonPath[]{this})[0];
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]按路径读取JsonString时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 在 json 字节中查找路径对应的值
+     *
+     * @param bytes json 字节
+     * @return 路径对应的值，不存在时返回 null
+     */
+    public JsonNode read(byte[] bytes) {
+        try (JsonParser parser = Jackson.OBJECT_MAPPER.createParser(bytes)) {
+            return read(parser, trie, new JacksonPath[]{this})[0];
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]按路径读取byte[]时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 一次解析查找多个路径对应的值
+     *
+     * @param text  json string
+     * @param paths 路径
+     * @return 与 paths 一一对应的值，不存在的为 null
+     */
+    public static JsonNode[] readAll(String text, JacksonPath... paths) {
+        try (JsonParser parser = Jackson.OBJECT_MAPPER.createParser(text)) {
+            return read(parser, merge(paths), paths);
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]按路径读取JsonString时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 一次解析查找多个路径对应的值
+     *
+     * @param bytes json 字节
+     * @param paths 路径
+     * @return 与 paths 一一对应的值，不存在的为 null
+     */
+    public static JsonNode[] readAll(byte[] bytes, JacksonPath... paths) {
+        try (JsonParser parser = Jackson.OBJECT_MAPPER.createParser(bytes)) {
+            return read(parser, merge(paths), paths);
+        } catch (Exception e) {
+            throw new RuntimeException("[Jackson]按路径读取byte[]时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    private static Trie merge(JacksonPath[] paths) {
+        Trie root = new Trie();
+        for (int i = 0; i < paths.length; i++) {
+            paths[i].insert(root, i);
+        }
+        return root;
+    }
+
+    private static JsonNode[] read(JsonParser parser, Trie root, JacksonPath[] paths) throws Exception {
+        Walk walk = new Walk(parser, paths);
+        if (parser.nextToken() != null) {
+            walk.visit(root);
+        }
+        return walk.results;
+    }
+
+    private void insert(Trie root, int target) {
+        Trie node = root;
+        for (int i = 0; i < names.length; i++) {
+            node = node.child(names[i], indexes[i]);
+        }
+        node.targets.add(target);
+    }
+
+    /**
+     * 从已经构建好的节点中继续按路径查找，用于一个路径是另一个路径前缀的情况
+     */
+    private JsonNode resolve(JsonNode node, int depth) {
+        for (int i = depth; i < names.length && node != null; i++) {
+            if (node.isObject() && names[i] != null) {
+                node = node.get(names[i]);
+            } else if (node.isArray() && indexes[i] >= 0) {
+                node = node.get(indexes[i]);
+            } else {
+                node = null;
+            }
+        }
+        return node;
+    }
+
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /**
+     * 多个路径合并成的前缀树
+     */
+    private static final class Trie {
+        private Map<String, Trie> fields;
+        private Map<Integer, Trie> elements;
+        private final List<Integer> targets = new ArrayList<>(1);
+        private int depth;
+
+        private Trie child(String name, int index) {
+            Trie child = null;
+            if (name != null) {
+                if (fields == null) {
+                    fields = new HashMap<>();
+                }
+                child = fields.get(name);
+            }
+            if (child == null && index >= 0 && elements != null) {
+                child = elements.get(index);
+            }
+            if (child == null) {
+                child = new Trie();
+                child.depth = depth + 1;
+            }
+            if (name != null) {
+                fields.put(name, child);
+            }
+            if (index >= 0) {
+                if (elements == null) {
+                    elements = new HashMap<>();
+                }
+                elements.put(index, child);
+            }
+            return child;
+        }
+    }
+
+    /**
+     * 一次遍历的状态
+     */
+    private static final class Walk {
+        private final JsonParser parser;
+        private final JacksonPath[] paths;
+        private final JsonNode[] results;
+        private int remaining;
+
+        private Walk(JsonParser parser, JacksonPath[] paths) {
+            this.parser = parser;
+            this.paths = paths;
+            this.results = new JsonNode[paths.length];
+            this.remaining = paths.length;
+        }
+
+        /**
+         * 当前 token 是一个值的开始，按前缀树查找，返回后当前 token 是该值的结束
+         */
+        private void visit(Trie trie) throws Exception {
+            if (!trie.targets.isEmpty()) {
+                // 命中目标，构建该值，更深的路径直接在构建好的节点上查找
+                JsonNode node = Jackson.OBJECT_MAPPER.readTree(parser);
+                collect(trie, node);
+                return;
+            }
+
+            JsonToken token = parser.currentToken();
+            if (token == JsonToken.START_OBJECT && trie.fields != null) {
+                while (remaining > 0 && parser.nextToken() == JsonToken.FIELD_NAME) {
+                    Trie child = trie.fields.get(parser.currentName());
+                    parser.nextToken();
+                    if (child != null) {
+                        visit(child);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else if (token == JsonToken.START_ARRAY && trie.elements != null) {
+                int index = 0;
+                while (remaining > 0 && parser.nextToken() != JsonToken.END_ARRAY) {
+                    Trie child = trie.elements.get(index++);
+                    if (child != null) {
+                        visit(child);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+
+        private void collect(Trie trie, JsonNode node) {
+            for (Integer target : trie.targets) {
+                set(target, node);
+            }
+            collectChildren(trie, node, trie.depth);
+        }
+
+        private void collectChildren(Trie trie, JsonNode node, int depth) {
+            List<Trie> children = new ArrayList<>();
+            if (trie.fields != null) {
+                children.addAll(trie.fields.values());
+            }
+            if (trie.elements != null) {
+                children.addAll(trie.elements.values());
+            }
+            for (Trie child : children) {
+                for (Integer target : child.targets) {
+                    if (results[target] == null) {
+                        set(target, paths[target].resolve(node, depth));
+                    }
+                }
+                collectChildren(child, node, depth);
+            }
+        }
+
+        private void set(int target, JsonNode node) {
+            if (results[target] == null && node != null) {
+                results[target] = node;
+                remaining--;
+            }
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package top.senseiliu.jackson;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 预热结果，记录每个类型的预热耗时与失败原因
+ *
+ * @author liuguanliang
+ */
+public final class JacksonPrewarmReport {
+    /**
+     * 类型名 - 耗时纳秒，按传入顺序排列
+     */
+    private final Map<String, Long> timings;
+
+    /**
+     * 类型名 - 失败原因
+     */
+    private final Map<String, String> failures;
+
+    /**
+     * 总耗时，并行预热时小于各类型耗时之和
+     */
+    private final long totalNanos;
+
+    JacksonPrewarmReport(Map<String, Long> timings, Map<String, String> failures, long totalNanos) {
+        this.timings = Collections.unmodifiableMap(timings);
+        this.failures = Collections.unmodifiableMap(failures);
+        this.totalNanos = totalNanos;
+    }
+
+    public Map<String, Long> getTimings() {
+        return timings;
+    }
+
+    public Map<String, String> getFailures() {
+        return failures;
+    }
+
+    public long getTotalNanos() {
+        return totalNanos;
+    }
+
+    /**
+     * 总耗时
+     *
+     * @return 毫秒
+     */
+    public long getTotalMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalNanos);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder();
+        builder.append("[Jackson]预热 ").append(timings.size()).append(" 个类型，耗时 ")
+                .append(getTotalMillis()).append("ms");
+        for (Map.Entry<String, Long> entry : timings.entrySet()) {
+            builder.append("\n  ").append(entry.getKey()).append(": ")
+                    .append(String.format("%.3f", entry.getValue() / 1e6)).append("ms");
+            String failure = failures.get(entry.getKey());
+            if (failure != null) {
+                builder.append(" 失败: ").append(failure);
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,239 @@
+package top.senseiliu.jackson;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
+import java.net.JarURLConnection;
+import java.net.URL;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.deser.DefaultDeserializationContext;
+
+/**
+ * 预热 OBJECT_MAPPER 的序列化器与反序列化器缓存
+ * <p>
+ * OBJECT_MAPPER 的序列化器、反序列化器都是第一次使用时才构建，构建时需要大量反射，
+ * 启动后的前几次调用会比正常慢几十倍。预热时对每个类型：
+ * <ol>
+ *     <li>构建类型绑定（{@link JacksonBinding}）与 ObjectWriter</li>
+ *     <li>查找并缓存根反序列化器与根序列化器，解析时会一起构建属性上的反序列化器、静态类型属性上的序列化器</li>
+ * </ol>
+ * 只查找序列化器与反序列化器，不会创建类型的实例，没有构造器、setter 等副作用；无法构建时记录为失败
+ * JacksonObject、JacksonArray 自身的解析与序列化在第一次预热时一起完成
+ *
+ * @author liuguanliang
+ */
+final class JacksonPrewarmer {
+    private static final String CLASS_SUFFIX = ".class";
+
+    /**
+     * 可执行 jar、war 中存放类的目录，匹配包名前去掉
+     */
+    private static final String[] CLASS_ROOTS = {"BOOT-INF/classes/", "WEB-INF/classes/"};
+
+    /**
+     * JacksonObject、JacksonArray 是否已经预热
+     */
+    private static volatile boolean treePrewarmed;
+
+    private JacksonPrewarmer() {
+    }
+
+    /**
+     * 预热
+     *
+     * @param types    类型
+     * @param parallel 是否使用公共 ForkJoinPool 并行预热
+     * @return 预热结果
+     */
+    static JacksonPrewarmReport prewarm(List<? extends Type> types, boolean parallel) {
+        long start = System.nanoTime();
+        List<Type> all = new ArrayList<>();
+        if (!treePrewarmed) {
+            all.add(JacksonObject.class);
+            all.add(JacksonArray.class);
+        }
+        all.addAll(new LinkedHashSet<>(types));
+
+        List<Result> results = (parallel ? all.parallelStream() : all.stream())
+                .map(JacksonPrewarmer::prewarm)
+                .collect(Collectors.toList());
+        treePrewarmed = true;
+
+        Map<String, Long> timings = new LinkedHashMap<>();
+        Map<String, String> failures = new LinkedHashMap<>();
+        for (Result result : results) {
+            timings.put(result.name, result.nanos);
+            if (result.failure != null) {
+                failures.put(result.name, result.failure);
+            }
+        }
+        return new JacksonPrewarmReport(timings, failures, System.nanoTime() - start);
+    }
+
+    private static Result prewarm(Type type) {
+        long start = System.nanoTime();
+        String failure = null;
+        try {
+            if (type == JacksonObject.class) {
+                Jackson.parseObject("{\"k\":[1,\"v\",true,null,1.5]}").toJsonString();
+            } else if (type == JacksonArray.class) {
+                Jackson.parseArray("[{\"k\":1}]").toJsonString();
+            } else {
+                prewarmType(type);
+            }
+        } catch (Exception e) {
+            failure = e.getClass().getSimpleName() + ": " + e.getMessage();
+        }
+        return new Result(type.getTypeName(), System.nanoTime() - start, failure);
+    }
+
+    private static void prewarmType(Type type) throws Exception {
+        ObjectMapper objectMapper = JacksonRegistry.state().getBase();
+        JacksonBinding<Object> binding = JacksonRegistry.binding(type);
+        JavaType javaType = binding.getType();
+        binding.getReader();
+        objectMapper.writerFor(javaType);
+
+        // ObjectReader、ObjectWriter 查找失败时不会抛出异常，这里显式查找，构建失败时记录到预热结果中
+        DeserializationContext context = ((DefaultDeserializationContext) objectMapper.getDeserializationContext())
+                .createDummyInstance(objectMapper.getDeserializationConfig());
+        context.findRootValueDeserializer(javaType);
+        objectMapper.getSerializerProviderInstance().findValueSerializer(javaType);
+    }
+
+    /**
+     * 扫描包下的类，包括子包
+     * <p>
+     * 只保留可以作为 json 模型的类：非接口、非抽象、非注解、非匿名类与局部类、非非静态内部类
+     *
+     * @param basePackage 包名，比如 com.example.dto
+     * @param classLoader 类加载器
+     * @return 类
+     */
+    static List<Class<?>> scan(String basePackage, ClassLoader classLoader) {
+        String path = basePackage.replace('.', '/');
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> resources = classLoader.getResources(path);
+            while (resources.hasMoreElements()) {
+                URL url = resources.nextElement();
+                if ("file".equals(url.getProtocol())) {
+                    File directory = new File(URLDecoder.decode(url.getPath(), StandardCharsets.UTF_8.name()));
+                    scanDirectory(directory, basePackage, classNames);
+                } else if ("jar".equals(url.getProtocol())) {
+                    scanJar(url, path, classNames);
+                }
+            }
+        } catch (IOException e) {
+            throw new RuntimeException("[Jackson]扫描包" + basePackage + "时发生异常，msg:" + e.getMessage());
+        }
+
+        List<Class<?>> classes = new ArrayList<>();
+        for (String className : classNames) {
+            Class<?> clazz;
+            try {
+                clazz = Class.forName(className, false, classLoader);
+            } catch (Throwable e) {
+                // 依赖缺失的类无法加载，跳过
+                continue;
+            }
+            if (isModel(clazz)) {
+                classes.add(clazz);
+            }
+        }
+        return classes;
+    }
+
+    private static void scanDirectory(File directory, String packageName, Set<String> classNames) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return;
+        }
+        for (File file : files) {
+            String name = file.getName();
+            if (file.isDirectory()) {
+                scanDirectory(file, packageName + "." + name, classNames);
+            } else if (name.endsWith(CLASS_SUFFIX)) {
+                classNames.add(packageName + "." + name.substring(0, name.length() - CLASS_SUFFIX.length()));
+            }
+        }
+    }
+
+    /**
+     * 扫描 jar 中的类
+     * <p>
+     * 普通的 jar（jar:file:/app.jar!/com/example）自己打开、自己关闭，不影响类加载器缓存的 JarFile；
+     * 嵌套的 jar（比如 Spring Boot 的 jar:file:/app.jar!/BOOT-INF/classes!/com/example）只能通过连接获取，
+     * 得到的 JarFile 由类加载器共享，不能关闭
+     */
+    private static void scanJar(URL url, String path, Set<String> classNames) throws IOException {
+        String spec = url.getPath();
+        int separator = spec.indexOf("!/");
+        if (spec.startsWith("file:") && separator > 0 && spec.indexOf("!/", separator + 2) < 0) {
+            File file = new File(URLDecoder.decode(spec.substring("file:".length(), separator), StandardCharsets.UTF_8.name()));
+            try (JarFile jarFile = new JarFile(file)) {
+                scanEntries(jarFile, path, classNames);
+            }
+            return;
+        }
+        JarURLConnection connection = (JarURLConnection) url.openConnection();
+        scanEntries(connection.getJarFile(), path, classNames);
+    }
+
+    private static void scanEntries(JarFile jarFile, String path, Set<String> classNames) {
+        Enumeration<JarEntry> entries = jarFile.entries();
+        while (entries.hasMoreElements()) {
+            String name = entries.nextElement().getName();
+            for (String root : CLASS_ROOTS) {
+                if (name.startsWith(root)) {
+                    name = name.substring(root.length());
+                    break;
+                }
+            }
+            if (name.startsWith(path + "/") && name.endsWith(CLASS_SUFFIX)) {
+                classNames.add(name.substring(0, name.length() - CLASS_SUFFIX.length()).replace('/', '.'));
+            }
+        }
+    }
+
+    private static boolean isModel(Class<?> clazz) {
+        int modifiers = clazz.getModifiers();
+        if (clazz.isInterface() || clazz.isAnnotation() || Modifier.isAbstract(modifiers)
+                || clazz.isAnonymousClass() || clazz.isLocalClass() || clazz.isSynthetic()
+                || clazz.getSimpleName().equals("package-info")) {
+            return false;
+        }
+        return clazz.getEnclosingClass() == null || Modifier.isStatic(modifiers);
+    }
+
+    /**
+     * 单个类型的预热结果
+     */
+    private static final class Result {
+        private final String name;
+        private final long nanos;
+        private final String failure;
+
+        private Result(String name, long nanos, String failure) {
+            this.name = name;
+            this.nanos = nanos;
+            this.failure = failure;
+        }
+    }
+}
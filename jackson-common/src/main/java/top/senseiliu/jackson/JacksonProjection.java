@@ -0,0 +1,132 @@
+package top.senseiliu.jackson;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.filter.FilteringParserDelegate;
+import com.fasterxml.jackson.core.filter.TokenFilter;
+import com.fasterxml.jackson.databind.util.LRUMap;
+
+/**
+ * 预编译的字段投影，解析时只保留指定的字段
+ * <p>
+ * 字段使用 . 表示嵌套，比如 a.b 只保留 a 对象中的 b 字段，数组中的每个对象按同样的规则投影。
+ * 基于 FilteringParserDelegate，不需要的字段在分词阶段直接跳过，不会构建对应的 JsonNode。
+ * 编译后的投影不可变，线程安全，建议保存在静态常量中
+ *
+ * @author liuguanliang
+ */
+public final class JacksonProjection {
+    /**
+     * 按字段集合缓存的投影上限，字段集合一般是固定的几组，正常情况下远远达不到
+     */
+    private static final int MAX_CACHED = 256;
+
+    /**
+     * 按字段集合缓存的投影，供 {@link Jackson#parseObject(String, Set)} 使用
+     */
+    private static final LRUMap<Set<String>, JacksonProjection> CACHE = new LRUMap<>(16, MAX_CACHED);
+
+    /**
+     * 根节点的过滤器
+     */
+    private final Branch root;
+
+    private JacksonProjection(Branch root) {
+        this.root = root;
+    }
+
+    /**
+     * 编译投影
+     *
+     * @param fields 字段，比如 a.b、c
+     * @return 投影
+     */
+    public static JacksonProjection of(Collection<String> fields) {
+        Branch root = new Branch();
+        for (String field : fields) {
+            Branch branch = root;
+            String[] names = field.trim().split("\\.");
+            for (int i = 0; i < names.length; i++) {
+                String name = names[i];
+                if (name.isEmpty()) {
+                    throw new IllegalArgumentException("[Jackson]投影中存在空的字段名:" + field);
+                }
+                if (i == names.length - 1) {
+                    // 整个字段都保留时，覆盖掉更深的投影
+                    branch.children.put(name, TokenFilter.INCLUDE_ALL);
+                } else {
+                    TokenFilter child = branch.children.get(name);
+                    if (child == TokenFilter.INCLUDE_ALL) {
+                        break;
+                    }
+                    if (child == null) {
+                        child = new Branch();
+                        branch.children.put(name, child);
+                    }
+                    branch = (Branch) child;
+                }
+            }
+        }
+        return new JacksonProjection(root);
+    }
+
+    /**
+     * 获取字段集合对应的投影，没有缓存时编译并缓存，缓存的 key 为字段集合的副本
+     *
+     * @param fields 字段，比如 a.b、c
+     * @return 投影
+     */
+    static JacksonProjection cached(Set<String> fields) {
+        JacksonProjection projection = CACHE.get(fields);
+        if (projection == null) {
+            Set<String> key = new HashSet<>(fields);
+            projection = of(key);
+            CACHE.put(key, projection);
+        }
+        return projection;
+    }
+
+    /**
+     * 编译逗号分隔的投影
+     *
+     * @param fields 比如 a.b,c
+     * @return 投影
+     */
+    public static JacksonProjection parse(String fields) {
+        return of(Arrays.asList(fields.split(",")));
+    }
+
+    /**
+     * 包装 JsonParser，只输出投影中的字段
+     *
+     * @param parser 原始 JsonParser
+     * @return 过滤后的 JsonParser
+     */
+    JsonParser filter(JsonParser parser) {
+        return new FilteringParserDelegate(parser, root, TokenFilter.Inclusion.INCLUDE_ALL_AND_PATH, true);
+    }
+
+    /**
+     * 投影中间层级，只放行投影中的字段
+     */
+    private static final class Branch extends TokenFilter {
+        private final Map<String, TokenFilter> children = new HashMap<>();
+
+        @Override
+        public TokenFilter includeProperty(String name) {
+            return children.get(name);
+        }
+
+        @Override
+        protected boolean _includeScalar() {
+            // 投影要求是对象，但实际是基础类型，不保留
+            return false;
+        }
+    }
+}
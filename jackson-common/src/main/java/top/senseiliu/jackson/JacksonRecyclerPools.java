@@ -0,0 +1,176 @@
+package top.senseiliu.jackson;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.util.BufferRecycler;
+import com.fasterxml.jackson.core.util.JsonRecyclerPools;
+import com.fasterxml.jackson.core.util.RecyclerPool;
+
+/**
+ * OBJECT_MAPPER 读写缓冲区的回收策略
+ * <p>
+ * jackson 默认使用 ThreadLocal 回收缓冲区，线程池中的平台线程可以一直复用；
+ * 但是在虚拟线程或者大量短生命周期线程下，每个线程只用一次，每次读写都会重新分配 char[] / byte[] 缓冲区。
+ * 这种场景下应该使用线程间共享的回收池。
+ * <p>
+ * 启动时通过系统属性 {@value #PROPERTY} 指定，可选值为 thread-local、lock-free、striped、bounded、none，
+ * 运行时可以通过 {@link Jackson#setRecyclerPool(RecyclerPool)} 替换
+ *
+ * @author liuguanliang
+ */
+public final class JacksonRecyclerPools {
+    /**
+     * 指定回收策略的系统属性
+     */
+    public static final String PROPERTY = "jackson.common.recycler-pool";
+
+    /**
+     * 有界回收池默认容量
+     */
+    public static final int DEFAULT_CAPACITY = 100;
+
+    private JacksonRecyclerPools() {
+    }
+
+    /**
+     * jackson 默认的 ThreadLocal 回收，适合线程池中的平台线程
+     *
+     * @return 回收池
+     */
+    public static RecyclerPool<BufferRecycler> threadLocal() {
+        return JsonRecyclerPools.threadLocalPool();
+    }
+
+    /**
+     * 无锁共享回收池，基于 CAS 的链表栈，容量不设上限
+     *
+     * @return 回收池
+     */
+    public static RecyclerPool<BufferRecycler> lockFree() {
+        return JsonRecyclerPools.newLockFreePool();
+    }
+
+    /**
+     * 分段回收池，按线程 id 分散到多个有界回收池，减少高并发下的竞争
+     *
+     * @return 回收池
+     */
+    public static RecyclerPool<BufferRecycler> striped() {
+        return striped(Runtime.getRuntime().availableProcessors(), DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 分段回收池，按线程 id 分散到多个有界回收池，减少高并发下的竞争
+     *
+     * @param stripes  分段数，会向上取整为 2 的幂
+     * @param capacity 每个分段的容量
+     * @return 回收池
+     */
+    public static RecyclerPool<BufferRecycler> striped(int stripes, int capacity) {
+        return new StripedRecyclerPool(stripes, capacity);
+    }
+
+    /**
+     * 有界共享回收池，缓冲区数量不超过 capacity，超出的部分直接丢弃
+     * <p>
+     * 虚拟线程的载体线程无法通过公开 API 获取，因此不做按载体线程的划分，
+     * 容量设置为载体线程数（默认等于 CPU 核数）的数倍即可
+     *
+     * @param capacity 容量
+     * @return 回收池
+     */
+    public static RecyclerPool<BufferRecycler> bounded(int capacity) {
+        return JsonRecyclerPools.newBoundedPool(capacity);
+    }
+
+    /**
+     * 不回收，每次读写都分配新的缓冲区
+     *
+     * @return 回收池
+     */
+    public static RecyclerPool<BufferRecycler> none() {
+        return JsonRecyclerPools.nonRecyclingPool();
+    }
+
+    /**
+     * 通过名称获取回收池
+     *
+     * @param name thread-local、lock-free、striped、bounded、none
+     * @return 回收池
+     */
+    public static RecyclerPool<BufferRecycler> of(String name) {
+        switch (name.trim().toLowerCase()) {
+            case "thread-local":
+                return threadLocal();
+            case "lock-free":
+                return lockFree();
+            case "striped":
+                return striped();
+            case "bounded":
+                return bounded(DEFAULT_CAPACITY);
+            case "none":
+                return none();
+            default:
+                throw new IllegalArgumentException("[Jackson]未知的缓冲区回收策略:" + name);
+        }
+    }
+
+    /**
+     * 分段回收池
+     * <p>
+     * 缓冲区取出时与所在分段绑定，归还时直接回到原来的分段
+     */
+    static final class StripedRecyclerPool implements RecyclerPool<BufferRecycler> {
+        private static final long serialVersionUID = 1L;
+
+        private final List<RecyclerPool<BufferRecycler>> stripes;
+        private final int mask;
+
+        StripedRecyclerPool(int stripes, int capacity) {
+            int size = stripes <= 1 ? 1 : Integer.highestOneBit(stripes - 1) << 1;
+            this.stripes = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                this.stripes.add(JsonRecyclerPools.newBoundedPool(capacity));
+            }
+            this.mask = size - 1;
+        }
+
+        private RecyclerPool<BufferRecycler> stripe() {
+            long id = Thread.currentThread().getId();
+            return stripes.get((int) (id ^ (id >>> 32)) & mask);
+        }
+
+        @Override
+        public BufferRecycler acquirePooled() {
+            return stripe().acquirePooled();
+        }
+
+        @Override
+        public BufferRecycler acquireAndLinkPooled() {
+            return stripe().acquireAndLinkPooled();
+        }
+
+        @Override
+        public void releasePooled(BufferRecycler pooled) {
+            stripe().releasePooled(pooled);
+        }
+
+        @Override
+        public int pooledCount() {
+            int count = 0;
+            for (RecyclerPool<BufferRecycler> stripe : stripes) {
+                count += stripe.pooledCount();
+            }
+            return count;
+        }
+
+        @Override
+        public boolean clear() {
+            for (RecyclerPool<BufferRecycler> stripe : stripes) {
+                stripe.clear();
+            }
+            return true;
+        }
+    }
+}
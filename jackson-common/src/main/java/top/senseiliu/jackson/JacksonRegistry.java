@@ -0,0 +1,218 @@
+package top.senseiliu.jackson;
+
+import java.lang.reflect.Type;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.LRUMap;
+import top.senseiliu.jackson.date.DateTimeMode;
+
+/**
+ * 预先构建的 ObjectWriter / ObjectReader 缓存
+ * <p>
+ * ObjectWriter 与 ObjectReader 都是不可变且线程安全的，按 {@link JacksonOptions} 构建一次后即可一直复用。
+ * 命名策略只能在 ObjectMapper 层面设置，因此每种命名策略只会复制一次 OBJECT_MAPPER，
+ * 复制出来的 ObjectMapper 同样被缓存，拥有自己的序列化器缓存。
+ * <p>
+ * 同时缓存解析完成的类型与对应的 ObjectReader（{@link JacksonBinding}），数量有上限；
+ * 以及各个二进制格式（{@link JacksonFormat}）对应的 ObjectMapper。
+ * <p>
+ * 所有缓存与构建它们的 OBJECT_MAPPER 一起放在一个 {@link State} 中，只整体替换、不逐个清空：
+ * OBJECT_MAPPER 被替换时自动失效，配置被修改后通过 {@link Jackson#resetCaches()} 失效，
+ * 不会出现基于旧 OBJECT_MAPPER 构建的缓存留在新状态中的情况
+ *
+ * @author liuguanliang
+ */
+final class JacksonRegistry {
+    /**
+     * 缓存上限，选项一般是静态常量，正常情况下远远达不到
+     */
+    private static final int MAX_ENTRIES = 256;
+
+    /**
+     * 类型绑定缓存上限
+     */
+    private static final int MAX_BINDINGS = 1024;
+
+    private static volatile State state;
+
+    private JacksonRegistry() {
+    }
+
+    /**
+     * 获取选项对应的 ObjectWriter
+     *
+     * @param options 选项
+     * @return ObjectWriter
+     */
+    static ObjectWriter writer(JacksonOptions options) {
+        State state = state();
+        ObjectWriter writer = state.writers.get(options);
+        if (writer == null) {
+            writer = buildWriter(state, options);
+            state.writers.put(options, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * 获取选项对应的 ObjectReader
+     *
+     * @param options 选项
+     * @return ObjectReader
+     */
+    static ObjectReader reader(JacksonOptions options) {
+        State state = state();
+        ObjectReader reader = state.readers.get(options);
+        if (reader == null) {
+            reader = buildReader(state, options);
+            state.readers.put(options, reader);
+        }
+        return reader;
+    }
+
+    /**
+     * 获取类型对应的绑定
+     * <p>
+     * Class 与 TypeReference 中的 ParameterizedType 都实现了 equals，相同的类型共用一个绑定
+     *
+     * @param <T>  泛型
+     * @param type 类型
+     * @return 类型绑定
+     */
+    @SuppressWarnings("unchecked")
+    static <T> JacksonBinding<T> binding(Type type) {
+        State state = state();
+        JacksonBinding<?> binding = state.bindings.get(type);
+        if (binding == null) {
+            binding = new JacksonBinding<>(state.base.getTypeFactory().constructType(type));
+            state.bindings.put(type, binding);
+        }
+        return (JacksonBinding<T>) binding;
+    }
+
+    /**
+     * 获取数据格式对应的 ObjectMapper
+     * <p>
+     * 在 OBJECT_MAPPER 的基础上替换 JsonFactory，保留所有配置与模块，缓冲区回收策略也保持一致
+     *
+     * @param format 数据格式
+     * @return ObjectMapper
+     */
+    static ObjectMapper mapper(JacksonFormat format) {
+        State state = state();
+        if (format == JacksonFormat.JSON) {
+            return state.base;
+        }
+
+        ObjectMapper objectMapper = state.formats.get(format);
+        if (objectMapper == null) {
+            JsonFactory factory = format.newFactory();
+            factory.setRecyclerPool(state.base.getFactory()._getRecyclerPool());
+            objectMapper = state.base.copyWith(factory);
+            ObjectMapper previous = state.formats.putIfAbsent(format, objectMapper);
+            if (previous != null) {
+                objectMapper = previous;
+            }
+        }
+        return objectMapper;
+    }
+
+    /**
+     * 丢弃所有缓存，基于当前的 OBJECT_MAPPER 重新开始
+     */
+    static synchronized void clear() {
+        state = new State(Jackson.OBJECT_MAPPER);
+    }
+
+    /**
+     * 当前的缓存状态，OBJECT_MAPPER 被替换时整体换成新的状态
+     */
+    static State state() {
+        State current = state;
+        ObjectMapper objectMapper = Jackson.OBJECT_MAPPER;
+        if (current == null || current.base != objectMapper) {
+            synchronized (JacksonRegistry.class) {
+                current = state;
+                if (current == null || current.base != objectMapper) {
+                    current = new State(objectMapper);
+                    state = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private static ObjectMapper mapper(State state, PropertyNamingStrategy namingStrategy) {
+        if (namingStrategy == null) {
+            return state.base;
+        }
+
+        ObjectMapper objectMapper = state.mappers.get(namingStrategy);
+        if (objectMapper == null) {
+            objectMapper = state.base.copy();
+            objectMapper.setPropertyNamingStrategy(namingStrategy);
+            ObjectMapper previous = state.mappers.putIfAbsent(namingStrategy, objectMapper);
+            if (previous != null) {
+                objectMapper = previous;
+            }
+        }
+        return objectMapper;
+    }
+
+    private static ObjectWriter buildWriter(State state, JacksonOptions options) {
+        ObjectWriter writer = mapper(state, options.getNamingStrategy()).writer();
+        if (options.isPretty()) {
+            writer = writer.withDefaultPrettyPrinter();
+        }
+        for (SerializationFeature feature : options.getEnabledSerialization()) {
+            writer = writer.with(feature);
+        }
+        for (SerializationFeature feature : options.getDisabledSerialization()) {
+            writer = writer.without(feature);
+        }
+        if (options.getDateTimeMode() != null) {
+            writer = writer.withAttribute(DateTimeMode.class, options.getDateTimeMode());
+        }
+        return writer;
+    }
+
+    private static ObjectReader buildReader(State state, JacksonOptions options) {
+        ObjectReader reader = mapper(state, options.getNamingStrategy()).reader();
+        for (DeserializationFeature feature : options.getEnabledDeserialization()) {
+            reader = reader.with(feature);
+        }
+        for (DeserializationFeature feature : options.getDisabledDeserialization()) {
+            reader = reader.without(feature);
+        }
+        if (options.getDateTimeMode() != null) {
+            reader = reader.withAttribute(DateTimeMode.class, options.getDateTimeMode());
+        }
+        return reader;
+    }
+
+    /**
+     * 构建缓存时使用的 OBJECT_MAPPER 与基于它构建的所有缓存，只整体替换
+     */
+    static final class State {
+        private final ObjectMapper base;
+        private final LRUMap<PropertyNamingStrategy, ObjectMapper> mappers = new LRUMap<>(4, MAX_ENTRIES);
+        private final LRUMap<JacksonOptions, ObjectWriter> writers = new LRUMap<>(8, MAX_ENTRIES);
+        private final LRUMap<JacksonOptions, ObjectReader> readers = new LRUMap<>(8, MAX_ENTRIES);
+        private final LRUMap<JacksonFormat, ObjectMapper> formats = new LRUMap<>(4, MAX_ENTRIES);
+        private final LRUMap<Type, JacksonBinding<?>> bindings = new LRUMap<>(64, MAX_BINDINGS);
+
+        private State(ObjectMapper base) {
+            this.base = base;
+        }
+
+        ObjectMapper getBase() {
+            return base;
+        }
+    }
+}
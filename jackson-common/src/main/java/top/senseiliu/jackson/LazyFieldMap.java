@@ -0,0 +1,386 @@
+package top.senseiliu.jackson;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8StreamJsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * {@link LazyObjectNode} 的子节点
+ * <p>
+ * 解析时只扫描一遍顶层，记录每个字段值在原始内容中的起止位置，读取字段时才解析对应的片段。
+ * 新增、删除字段或遍历所有字段时，一次性解析剩余字段并转为普通的 LinkedHashMap。
+ * <p>
+ * 没有修改过并且没有取出过对象、数组类型的值时，序列化直接输出原始内容；
+ * 原始内容为 UTF-8 字节并且输出到字节流时直接复制字节，不经过解码与重新编码
+ * <p>
+ * 扫描结果创建后不再改变，解析出的字段值与转换后的 map 都构建完成后再通过 volatile 发布，
+ * 多个线程同时读取（包括遍历触发的转换）是安全的，同一个字段总是返回同一个节点；
+ * 与 ObjectNode 一样，修改不是线程安全的
+ *
+ * @author liuguanliang
+ */
+final class LazyFieldMap extends AbstractMap<String, JsonNode> {
+    /**
+     * 字段数量不超过该值时线性查找，否则使用 HashMap 索引
+     */
+    private static final int LINEAR_LIMIT = 8;
+
+    private static final char[] NO_CHARS = new char[0];
+
+    /**
+     * 原始内容，chars 与 bytes 只有一个不为 null
+     */
+    private final char[] chars;
+    private final byte[] bytes;
+
+    /**
+     * 整个对象在原始内容中的起止位置，包含花括号
+     */
+    private final int objectStart;
+    private final int objectEnd;
+
+    private final String[] keys;
+    private final int[] starts;
+    private final int[] ends;
+    private final int size;
+
+    /**
+     * 字段数量较多时的索引
+     */
+    private final Map<String, Integer> index;
+
+    /**
+     * 已经解析的字段值
+     */
+    private final AtomicReferenceArray<JsonNode> values;
+
+    /**
+     * 修改或遍历后转成的普通 map
+     */
+    private volatile Map<String, JsonNode> inflated;
+
+    /**
+     * 是否可以直接输出原始内容
+     */
+    private volatile boolean pristine = true;
+
+    private LazyFieldMap(Scanner scanner) {
+        this.chars = scanner.chars;
+        this.bytes = scanner.bytes;
+        this.objectStart = scanner.objectStart;
+        this.objectEnd = scanner.objectEnd;
+        this.keys = scanner.keys;
+        this.starts = scanner.starts;
+        this.ends = scanner.ends;
+        this.size = scanner.size;
+        this.index = scanner.index;
+        this.values = new AtomicReferenceArray<>(scanner.size);
+    }
+
+    /**
+     * 扫描 json 字符
+     *
+     * @param chars  json 字符
+     * @param offset 起始下标
+     * @param length 长度
+     * @return 子节点
+     * @throws Exception 解析异常
+     */
+    static LazyFieldMap scan(char[] chars, int offset, int length) throws Exception {
+        Scanner scanner = new Scanner(chars, null, offset);
+        try (JsonParser parser = Jackson.OBJECT_MAPPER.createParser(chars, offset, length)) {
+            scanner.scan(parser);
+        }
+        return new LazyFieldMap(scanner);
+    }
+
+    /**
+     * 扫描 json 字节
+     * <p>
+     * 只支持 UTF-8：UTF-16、UTF-32 等编码由 JsonParser 自动识别后通过 Reader 解析，
+     * 得到的位置是字符下标而不是字节下标，无法按位置截取原始内容
+     *
+     * @param bytes  json 字节
+     * @param offset 起始下标
+     * @param length 长度
+     * @return 子节点，不是 UTF-8 编码时返回 null
+     * @throws Exception 解析异常
+     */
+    static LazyFieldMap scan(byte[] bytes, int offset, int length) throws Exception {
+        Scanner scanner = new Scanner(null, bytes, offset);
+        try (JsonParser parser = Jackson.OBJECT_MAPPER.createParser(bytes, offset, length)) {
+            if (!(parser instanceof UTF8StreamJsonParser)) {
+                return null;
+            }
+            scanner.scan(parser);
+        }
+        return new LazyFieldMap(scanner);
+    }
+
+    private int indexOf(Object key) {
+        return indexOf(keys, size, index, key);
+    }
+
+    private static int indexOf(String[] keys, int size, Map<String, Integer> index, Object key) {
+        if (index != null) {
+            Integer i = index.get(key);
+            return i == null ? -1 : i;
+        }
+        for (int i = 0; i < size; i++) {
+            if (keys[i].equals(key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * 解析第 i 个字段的值，并发解析时只保留先完成的一个
+     */
+    private JsonNode value(int i) {
+        JsonNode value = values.get(i);
+        if (value == null) {
+            int start = starts[i];
+            int length = ends[i] - start;
+            try (JsonParser parser = chars != null
+                    ? Jackson.OBJECT_MAPPER.createParser(chars, start, length)
+                    : Jackson.OBJECT_MAPPER.createParser(bytes, start, length)) {
+                value = Jackson.OBJECT_MAPPER.readTree(parser);
+            } catch (Exception e) {
+                throw new RuntimeException("[Jackson]解析字段" + keys[i] + "时发生异常，msg:" + e.getMessage());
+            }
+            if (!values.compareAndSet(i, null, value)) {
+                value = values.get(i);
+            }
+        }
+        if (value.isContainerNode()) {
+            // 取出的对象、数组可能被修改，不能再直接输出原始内容
+            pristine = false;
+        }
+        return value;
+    }
+
+    /**
+     * 一次性解析所有字段，转为普通的 LinkedHashMap，构建完成后才发布
+     */
+    private Map<String, JsonNode> inflate() {
+        Map<String, JsonNode> map = inflated;
+        if (map == null) {
+            synchronized (this) {
+                map = inflated;
+                if (map == null) {
+                    map = new LinkedHashMap<>(Math.max(16, size * 2));
+                    for (int i = 0; i < size; i++) {
+                        map.put(keys[i], value(i));
+                    }
+                    pristine = false;
+                    inflated = map;
+                }
+            }
+        }
+        return map;
+    }
+
+    /**
+     * 是否可以直接输出原始内容
+     *
+     * @return true or false
+     */
+    boolean isPristine() {
+        return pristine;
+    }
+
+    /**
+     * 直接输出原始内容
+     *
+     * @param generator JsonGenerator
+     * @throws IOException 异常
+     */
+    void writeRaw(JsonGenerator generator) throws IOException {
+        if (chars != null) {
+            generator.writeRawValue(chars, objectStart, objectEnd - objectStart);
+        } else if (generator instanceof UTF8JsonGenerator && generator.getOutputTarget() instanceof OutputStream) {
+            copyRaw(generator, (OutputStream) generator.getOutputTarget());
+        } else {
+            // 输出为字符（Writer、String）时只能解码
+            generator.writeRawValue(new String(bytes, objectStart, objectEnd - objectStart, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * 原始字节直接写入输出流：先写一个空的原始值，让生成器输出前面的逗号、冒号，
+     * 再把生成器缓冲区中的内容写入输出流（不 flush 输出流本身），最后写入原始字节
+     */
+    private void copyRaw(JsonGenerator generator, OutputStream out) throws IOException {
+        generator.writeRawValue(NO_CHARS, 0, 0);
+        boolean flushStream = generator.isEnabled(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        if (flushStream) {
+            generator.disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+        }
+        try {
+            generator.flush();
+        } finally {
+            if (flushStream) {
+                generator.enable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM);
+            }
+        }
+        out.write(bytes, objectStart, objectEnd - objectStart);
+    }
+
+    @Override
+    public int size() {
+        Map<String, JsonNode> map = inflated;
+        return map != null ? map.size() : size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        Map<String, JsonNode> map = inflated;
+        return map != null ? map.containsKey(key) : indexOf(key) >= 0;
+    }
+
+    @Override
+    public JsonNode get(Object key) {
+        Map<String, JsonNode> map = inflated;
+        if (map != null) {
+            return map.get(key);
+        }
+        int i = indexOf(key);
+        return i < 0 ? null : value(i);
+    }
+
+    @Override
+    public JsonNode put(String key, JsonNode value) {
+        return inflate().put(key, value);
+    }
+
+    @Override
+    public JsonNode remove(Object key) {
+        return inflate().remove(key);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ? extends JsonNode> m) {
+        inflate().putAll(m);
+    }
+
+    @Override
+    public void clear() {
+        inflate().clear();
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return inflate().keySet();
+    }
+
+    @Override
+    public Collection<JsonNode> values() {
+        return inflate().values();
+    }
+
+    @Override
+    public Set<Entry<String, JsonNode>> entrySet() {
+        return inflate().entrySet();
+    }
+
+    /**
+     * 扫描顶层字段，结果交给 LazyFieldMap 后不再修改
+     */
+    private static final class Scanner {
+        private final char[] chars;
+        private final byte[] bytes;
+
+        /**
+         * 原始内容的起始下标，JsonParser 返回的位置都相对于该下标
+         */
+        private final int offset;
+
+        private int objectStart;
+        private int objectEnd;
+        private String[] keys = new String[LINEAR_LIMIT];
+        private int[] starts = new int[LINEAR_LIMIT];
+        private int[] ends = new int[LINEAR_LIMIT];
+        private int size;
+        private Map<String, Integer> index;
+
+        private Scanner(char[] chars, byte[] bytes, int offset) {
+            this.chars = chars;
+            this.bytes = bytes;
+            this.offset = offset;
+        }
+
+        private void scan(JsonParser parser) throws Exception {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("json 不是对象，token:" + parser.currentToken());
+            }
+            objectStart = position(parser.currentTokenLocation());
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String key = parser.currentName();
+                JsonToken token = parser.nextToken();
+                int start = position(parser.currentTokenLocation());
+                if (token.isStructStart()) {
+                    parser.skipChildren();
+                } else {
+                    // 字符串只在缓冲区内解析完成，不会生成 String
+                    parser.finishToken();
+                }
+                add(key, start, position(parser.currentLocation()));
+            }
+
+            objectEnd = position(parser.currentLocation());
+        }
+
+        private int position(JsonLocation location) {
+            long position = chars != null ? location.getCharOffset() : location.getByteOffset();
+            return offset + (int) position;
+        }
+
+        private void add(String key, int start, int end) {
+            // 重复的 key 与 ObjectNode 保持一致，后面的覆盖前面的
+            int i = indexOf(keys, size, index, key);
+            if (i < 0) {
+                if (size == keys.length) {
+                    int capacity = keys.length * 2;
+                    keys = Arrays.copyOf(keys, capacity);
+                    starts = Arrays.copyOf(starts, capacity);
+                    ends = Arrays.copyOf(ends, capacity);
+                }
+                i = size++;
+                keys[i] = key;
+                if (index != null) {
+                    index.put(key, i);
+                } else if (size > LINEAR_LIMIT) {
+                    index = new HashMap<>(size * 2);
+                    for (int j = 0; j < size; j++) {
+                        index.put(keys[j], j);
+                    }
+                }
+            }
+            starts[i] = start;
+            ends[i] = end;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package top.senseiliu.jackson;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.JsonGeneratorImpl;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+/**
+ * 按需解析字段的 ObjectNode
+ * <p>
+ * 子节点为 {@link LazyFieldMap}，读取字段时才解析对应的值。
+ * 没有修改过时序列化为 json 文本直接输出原始内容；带缩进输出、输出为 Smile / CBOR 等二进制格式
+ * 或者写入 TokenBuffer（convertValue）时仍然逐个字段输出
+ *
+ * @author liuguanliang
+ */
+@SuppressWarnings("unchecked")
+final class LazyObjectNode extends ObjectNode {
+    private static final long serialVersionUID = 1L;
+
+    private final transient LazyFieldMap fields;
+
+    LazyObjectNode(JsonNodeFactory nodeFactory, LazyFieldMap fields) {
+        super(nodeFactory, fields);
+        this.fields = fields;
+    }
+
+    @Override
+    public void serialize(JsonGenerator g, SerializerProvider provider) throws IOException {
+        if (fields.isPristine() && canWriteRaw(g)) {
+            fields.writeRaw(g);
+            return;
+        }
+        super.serialize(g, provider);
+    }
+
+    /**
+     * 与 ObjectNode 一致，复制出的是解析完所有字段的普通 ObjectNode
+     */
+    @Override
+    public ObjectNode deepCopy() {
+        return super.deepCopy();
+    }
+
+    /**
+     * 只有不带缩进的 json 文本输出可以直接写入原始内容，二进制格式不支持 writeRawValue
+     */
+    private static boolean canWriteRaw(JsonGenerator g) {
+        return g instanceof JsonGeneratorImpl && g.getPrettyPrinter() == null;
+    }
+}
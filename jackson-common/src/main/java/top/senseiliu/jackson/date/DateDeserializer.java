@@ -0,0 +1,27 @@
+package top.senseiliu.jackson.date;
+
+import java.io.IOException;
+import java.util.Date;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.DateDeserializers;
+
+/**
+ * 反序列化 Date，字符串仍然由 {@link DateFormatExtend} 解析；
+ * {@link DateTimeMode#EPOCH_SECONDS} 时整数按秒处理，其余情况与 jackson 默认实现一致
+ *
+ * @author liuguanliang
+ */
+public class DateDeserializer extends DateDeserializers.DateDeserializer {
+    private static final long serialVersionUID = 1L;
+
+    @Override
+    protected Date _parseDate(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (p.hasToken(JsonToken.VALUE_NUMBER_INT) && DateTimes.modeOf(ctxt) == DateTimeMode.EPOCH_SECONDS) {
+            return new Date(DateTimeMode.EPOCH_SECONDS.toMillis(p.getLongValue()));
+        }
+        return super._parseDate(p, ctxt);
+    }
+}
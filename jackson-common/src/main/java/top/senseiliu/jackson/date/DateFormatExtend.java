@@ -0,0 +1,151 @@
+package top.senseiliu.jackson.date;
+
+import java.text.DateFormat;
+import java.text.FieldPosition;
+import java.text.ParsePosition;
+import java.text.SimpleDateFormat;
+import java.time.ZoneId;
+import java.util.Date;
+import java.util.Objects;
+import java.util.TimeZone;
+
+/**
+ * OBJECT_MAPPER 使用的日期格式
+ * <p>
+ * 反序列化时先由 {@link DateParser} 按形状直接解析；形状不匹配时（比如带毫秒、单位数的月份），
+ * 依次使用宽松的 SimpleDateFormat 尝试各个格式，最后使用 jackson 默认的格式（ISO-8601 等）。
+ * 完整匹配优先于只匹配前缀的结果，因此 ISO-8601 的时间部分不会被截掉。
+ * <p>
+ * jackson 每次反序列化都会 clone 一次，因此 clone 只创建一个很小的对象，默认格式只在需要时才复制。
+ * 不修改任何全局状态，线程安全
+ */
+public class DateFormatExtend extends DateFormat {
+    private static final long serialVersionUID = 1311621393045987323L;
+
+    /**
+     * jackson 默认的格式，只作为原型，使用时复制
+     */
+    private final DateFormat fallback;
+
+    private TimeZone timeZone;
+    private boolean lenient = true;
+
+    public DateFormatExtend(DateFormat dateFormat) {
+        this(dateFormat, null, true);
+    }
+
+    private DateFormatExtend(DateFormat fallback, TimeZone timeZone, boolean lenient) {
+        this.fallback = fallback;
+        this.timeZone = timeZone;
+        this.lenient = lenient;
+    }
+
+    /**
+     * 序列化时使用的格式为 yyyy-MM-dd HH:mm:ss
+     */
+    @Override
+    public StringBuffer format(Date date, StringBuffer toAppendTo,
+                               FieldPosition fieldPosition) {
+        Format.DTF_1.formatTo(date.toInstant().atZone(zoneId()), toAppendTo);
+        return toAppendTo;
+    }
+
+    /**
+     * 反序列化时，先按形状解析，再分别使用自定义格式化器，最后使用默认的
+     */
+    @Override
+    public Date parse(String source, ParsePosition pos) {
+        int start = pos.getIndex();
+        Date date = DateParser.parse(start == 0 ? source : source.substring(start), zoneId());
+        if (date != null) {
+            pos.setIndex(source.length());
+            return date;
+        }
+
+        // 只匹配了前缀的结果（比如 ISO-8601 的日期部分），在默认格式也无法解析时使用
+        Date prefix = null;
+        int prefixIndex = start;
+        for (String pattern : Format.PATTERNS) {
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat(pattern);
+            simpleDateFormat.setTimeZone(getTimeZone());
+            simpleDateFormat.setLenient(lenient);
+            ParsePosition position = new ParsePosition(start);
+            date = simpleDateFormat.parse(source, position);
+            if (date == null) {
+                continue;
+            }
+            if (position.getIndex() == source.length()) {
+                pos.setIndex(position.getIndex());
+                return date;
+            }
+            if (prefix == null) {
+                prefix = date;
+                prefixIndex = position.getIndex();
+            }
+        }
+
+        DateFormat dateFormat = (DateFormat) fallback.clone();
+        if (timeZone != null) {
+            dateFormat.setTimeZone(timeZone);
+        }
+        date = dateFormat.parse(source, pos);
+        if (date != null && pos.getIndex() == start) {
+            // 默认格式解析成功时不会移动位置
+            pos.setIndex(source.length());
+        }
+        if (date == null && prefix != null) {
+            pos.setIndex(prefixIndex);
+            pos.setErrorIndex(-1);
+            return prefix;
+        }
+        return date;
+    }
+
+    private ZoneId zoneId() {
+        return timeZone != null ? timeZone.toZoneId() : ZoneId.systemDefault();
+    }
+
+    @Override
+    public void setTimeZone(TimeZone zone) {
+        this.timeZone = zone;
+    }
+
+    @Override
+    public TimeZone getTimeZone() {
+        return timeZone != null ? timeZone : TimeZone.getDefault();
+    }
+
+    @Override
+    public void setLenient(boolean lenient) {
+        this.lenient = lenient;
+    }
+
+    @Override
+    public boolean isLenient() {
+        return lenient;
+    }
+
+    // 此方法在objectMapper 默认的dateformat里边用到，这里也要重写
+    @Override
+    public Object clone() {
+        return new DateFormatExtend(fallback, timeZone, lenient);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DateFormatExtend)) {
+            return false;
+        }
+        DateFormatExtend that = (DateFormatExtend) o;
+        return lenient == that.lenient && fallback == that.fallback && Objects.equals(timeZone, that.timeZone);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(fallback), timeZone, lenient);
+    }
+
+}
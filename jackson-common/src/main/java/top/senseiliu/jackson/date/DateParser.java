@@ -0,0 +1,101 @@
+package top.senseiliu.jackson.date;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Date;
+
+/**
+ * 线程安全的日期解析
+ * <p>
+ * 根据长度与分隔符的位置直接确定格式，只解析一次，不依赖异常与多次尝试：
+ * <ul>
+ *     <li>19 位，第 5 位为 - ：yyyy-MM-dd HH:mm:ss</li>
+ *     <li>19 位，第 5 位为 / ：yyyy/MM/dd HH:mm:ss</li>
+ *     <li>14 位数字：yyyyMMddHHmmss</li>
+ *     <li>10 位，第 5 位为 - ：yyyy-MM-dd</li>
+ *     <li>8 位数字：yyyyMMdd</li>
+ * </ul>
+ * 只使用不可变的 DateTimeFormatter，不修改任何全局状态
+ *
+ * @author liuguanliang
+ */
+public final class DateParser {
+    private DateParser() {
+    }
+
+    /**
+     * 解析日期
+     *
+     * @param text 日期字符串
+     * @param zone 时区
+     * @return 日期，格式不匹配时返回 null
+     */
+    public static Date parse(CharSequence text, ZoneId zone) {
+        LocalDateTime dateTime = parseLocal(text);
+        return dateTime == null ? null : Date.from(dateTime.atZone(zone).toInstant());
+    }
+
+    /**
+     * 解析为不带时区的日期时间，只有日期的格式为当天零点
+     *
+     * @param text 日期字符串
+     * @return 日期时间，格式不匹配时返回 null
+     */
+    public static LocalDateTime parseLocal(CharSequence text) {
+        DateTimeFormatter formatter = formatterOf(text);
+        if (formatter == null) {
+            return null;
+        }
+
+        try {
+            return formatter == Format.DTF_4 || formatter == Format.DTF_5
+                    ? LocalDate.parse(text, formatter).atStartOfDay()
+                    : LocalDateTime.parse(text, formatter);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * 根据形状选择格式
+     *
+     * @param text 日期字符串
+     * @return 格式，不匹配时返回 null
+     */
+    public static DateTimeFormatter formatterOf(CharSequence text) {
+        switch (text.length()) {
+            case 19:
+                if (text.charAt(10) != ' ' || text.charAt(13) != ':' || text.charAt(16) != ':') {
+                    return null;
+                }
+                if (text.charAt(4) == '-' && text.charAt(7) == '-') {
+                    return Format.DTF_1;
+                }
+                if (text.charAt(4) == '/' && text.charAt(7) == '/') {
+                    return Format.DTF_3;
+                }
+                return null;
+            case 14:
+                return isDigits(text) ? Format.DTF_2 : null;
+            case 10:
+                return text.charAt(4) == '-' && text.charAt(7) == '-' ? Format.DTF_4 : null;
+            case 8:
+                return isDigits(text) ? Format.DTF_5 : null;
+            default:
+                return null;
+        }
+    }
+
+    private static boolean isDigits(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
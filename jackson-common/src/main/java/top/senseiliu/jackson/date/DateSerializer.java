@@ -0,0 +1,197 @@
+package top.senseiliu.jackson.date;
+
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.zone.ZoneOffsetTransition;
+import java.time.zone.ZoneRules;
+import java.util.Date;
+import java.util.TimeZone;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+/**
+ * 序列化 Date，格式为 yyyy-MM-dd HH:mm:ss
+ * <p>
+ * 字符直接写入线程复用的缓冲区，再交给 JsonGenerator，不创建 String。
+ * 缓存当前日期的前缀 yyyy-MM-dd 与当天零点，同一天（且时区偏移不变）内只需要计算时分秒，
+ * 日历计算每天只做一次；缓存为不可变对象，通过 volatile 字段整体替换，线程安全。
+ * 年份超过 9999 时无法写成固定的 19 个字符，早于 1582-10-15 时 SimpleDateFormat 使用儒略历，
+ * 这两种情况仍然使用 SimpleDateFormat 格式化，与原来的输出一致。
+ * {@link DateTimeMode} 为数字时直接输出时间戳
+ *
+ * @author liuguanliang
+ */
+public class DateSerializer extends JsonSerializer<Date> {
+    static final int LENGTH = 19;
+    private static final int SECONDS_PER_DAY = 24 * 60 * 60;
+
+    /**
+     * SimpleDateFormat 从儒略历切换到格里高利历的时间 1582-10-15T00:00:00Z，秒
+     */
+    private static final long GREGORIAN_CUTOVER = -12219292800L;
+
+    private static final ThreadLocal<char[]> BUFFER = ThreadLocal.withInitial(() -> new char[LENGTH]);
+
+    private final ZoneRules rules;
+    private final TimeZone timeZone;
+
+    private volatile Day day;
+
+    public DateSerializer() {
+        this(ZoneId.systemDefault());
+    }
+
+    public DateSerializer(ZoneId zone) {
+        this.rules = zone.getRules();
+        this.timeZone = TimeZone.getTimeZone(zone);
+        this.day = new Day(0, 0, 0, new char[0]);
+    }
+
+    @Override
+    public void serialize(Date value, JsonGenerator gen, SerializerProvider serializers) throws IOException {
+        DateTimeMode mode = DateTimes.modeOf(serializers);
+        if (mode != DateTimeMode.STRING) {
+            long millis = value.getTime();
+            gen.writeNumber(mode == DateTimeMode.EPOCH_SECONDS ? Math.floorDiv(millis, 1000L) : millis);
+            return;
+        }
+
+        serialize(value.getTime(), gen);
+    }
+
+    void serialize(long millis, JsonGenerator gen) throws IOException {
+        char[] buffer = BUFFER.get();
+        if (write(millis, buffer)) {
+            gen.writeString(buffer, 0, LENGTH);
+        } else {
+            gen.writeString(formatOutOfRange(millis));
+        }
+    }
+
+    /**
+     * 格式化为字符串
+     *
+     * @param value 日期
+     * @return yyyy-MM-dd HH:mm:ss
+     */
+    public String format(Date value) {
+        char[] buffer = new char[LENGTH];
+        return write(value.getTime(), buffer) ? new String(buffer) : formatOutOfRange(value.getTime());
+    }
+
+    /**
+     * 写入 19 个字符，需要使用 SimpleDateFormat 时不写入，返回 false
+     */
+    private boolean write(long millis, char[] buffer) {
+        long second = Math.floorDiv(millis, 1000L);
+        Day current = day;
+        if (second < current.from || second >= current.to) {
+            current = dayOf(second);
+            if (current == null) {
+                return false;
+            }
+            day = current;
+        }
+
+        System.arraycopy(current.prefix, 0, buffer, 0, current.prefix.length);
+        int secondOfDay = (int) (second - current.start);
+        write2(secondOfDay / 3600, buffer, 11);
+        buffer[13] = ':';
+        write2(secondOfDay / 60 % 60, buffer, 14);
+        buffer[16] = ':';
+        write2(secondOfDay % 60, buffer, 17);
+        return true;
+    }
+
+    /**
+     * 很少出现，每次创建 SimpleDateFormat，不缓存
+     */
+    private String formatOutOfRange(long millis) {
+        SimpleDateFormat format = new SimpleDateFormat(Format.PATTERN_1);
+        format.setTimeZone(timeZone);
+        return format.format(new Date(millis));
+    }
+
+    /**
+     * 计算 second 所在的一天，时区偏移在当天发生变化时（夏令时），只到变化之前；
+     * 早于 1582-10-15 或者年份超过 9999 时返回 null
+     */
+    private Day dayOf(long second) {
+        if (second < GREGORIAN_CUTOVER) {
+            return null;
+        }
+        Instant instant = Instant.ofEpochSecond(second);
+        ZoneOffset offset = rules.getOffset(instant);
+        LocalDateTime dateTime = LocalDateTime.ofEpochSecond(second, 0, offset);
+        int year = dateTime.getYear();
+        if (year > 9999) {
+            return null;
+        }
+
+        long start = second - dateTime.toLocalTime().toSecondOfDay();
+        long from = Math.max(start, GREGORIAN_CUTOVER);
+        long to = start + SECONDS_PER_DAY;
+        ZoneOffsetTransition previous = rules.previousTransition(instant);
+        if (previous != null && previous.toEpochSecond() > from) {
+            from = previous.toEpochSecond();
+        }
+        ZoneOffsetTransition next = rules.nextTransition(instant);
+        if (next != null && next.toEpochSecond() < to) {
+            to = next.toEpochSecond();
+        }
+
+        char[] prefix = new char[11];
+        write2(year / 100, prefix, 0);
+        write2(year % 100, prefix, 2);
+        prefix[4] = '-';
+        write2(dateTime.getMonthValue(), prefix, 5);
+        prefix[7] = '-';
+        write2(dateTime.getDayOfMonth(), prefix, 8);
+        prefix[10] = ' ';
+        return new Day(start, from, to, prefix);
+    }
+
+    /**
+     * 当前线程复用的缓冲区，长度为 19
+     */
+    static char[] buffer() {
+        return BUFFER.get();
+    }
+
+    static void write2(int value, char[] buffer, int offset) {
+        buffer[offset] = (char) ('0' + value / 10);
+        buffer[offset + 1] = (char) ('0' + value % 10);
+    }
+
+    /**
+     * 一天内时区偏移不变的一段时间
+     */
+    private static final class Day {
+        /**
+         * 当天零点
+         */
+        private final long start;
+        /**
+         * 有效范围 [from, to)
+         */
+        private final long from;
+        private final long to;
+        /**
+         * yyyy-MM-dd
+         */
+        private final char[] prefix;
+
+        private Day(long start, long from, long to, char[] prefix) {
+            this.start = start;
+            this.from = from;
+            this.to = to;
+            this.prefix = prefix;
+        }
+    }
+}
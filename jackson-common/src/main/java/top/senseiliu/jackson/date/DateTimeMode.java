@@ -0,0 +1,34 @@
+package top.senseiliu.jackson.date;
+
+/**
+ * 日期时间（Date 与 java.time）的输出方式
+ * <p>
+ * 全局设置见 {@link DateTimes#setMode(DateTimeMode)}，单次调用见 JacksonOptions.dateTimeMode
+ *
+ * @author liuguanliang
+ */
+public enum DateTimeMode {
+    /**
+     * 格式化为字符串，比如 yyyy-MM-dd HH:mm:ss，默认方式
+     */
+    STRING,
+    /**
+     * 输出为数字，距 1970-01-01T00:00:00Z 的毫秒数
+     */
+    EPOCH_MILLIS,
+    /**
+     * 输出为数字，距 1970-01-01T00:00:00Z 的秒数
+     */
+    EPOCH_SECONDS;
+
+    /**
+     * 反序列化时整数的单位，毫秒或秒
+     *
+     * @param value 整数
+     * @return 毫秒数
+     * @throws ArithmeticException 秒数换算为毫秒时溢出
+     */
+    public long toMillis(long value) {
+        return this == EPOCH_SECONDS ? Math.multiplyExact(value, 1000L) : value;
+    }
+}
@@ -0,0 +1,113 @@
+package top.senseiliu.jackson.date;
+
+import java.time.ZoneId;
+import java.time.temporal.Temporal;
+import java.util.Date;
+import java.util.Objects;
+
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Date 与 java.time（Instant、LocalDateTime、LocalDate、OffsetDateTime、ZonedDateTime）的序列化配置
+ * <p>
+ * 输出方式优先使用单次调用的设置（ObjectWriter / ObjectReader 的属性 DateTimeMode.class），其次使用全局设置
+ *
+ * @author liuguanliang
+ */
+public final class DateTimes {
+    /**
+     * 全局的输出方式
+     */
+    private static volatile DateTimeMode mode = DateTimeMode.STRING;
+
+    /**
+     * 系统时区的 Date 序列化器
+     */
+    private static final DateSerializer DATE_SERIALIZER = new DateSerializer();
+
+    private DateTimes() {
+    }
+
+    /**
+     * 设置全局的输出方式，对已经缓存的 ObjectWriter / ObjectReader 同样生效
+     *
+     * @param mode 输出方式
+     */
+    public static void setMode(DateTimeMode mode) {
+        DateTimes.mode = Objects.requireNonNull(mode, "mode");
+    }
+
+    public static DateTimeMode getMode() {
+        return mode;
+    }
+
+    /**
+     * 本次序列化使用的输出方式
+     *
+     * @param provider SerializerProvider
+     * @return 输出方式
+     */
+    public static DateTimeMode modeOf(SerializerProvider provider) {
+        Object value = provider.getAttribute(DateTimeMode.class);
+        return value != null ? (DateTimeMode) value : mode;
+    }
+
+    /**
+     * 本次反序列化使用的时间戳单位
+     *
+     * @param ctxt DeserializationContext
+     * @return 输出方式
+     */
+    public static DateTimeMode modeOf(DeserializationContext ctxt) {
+        Object value = ctxt.getAttribute(DateTimeMode.class);
+        return value != null ? (DateTimeMode) value : mode;
+    }
+
+    /**
+     * 包含 Date 与 java.time 序列化器的模块，使用系统时区
+     *
+     * @return 模块
+     */
+    public static SimpleModule module() {
+        return module(ZoneId.systemDefault(), DATE_SERIALIZER);
+    }
+
+    /**
+     * 包含 Date 与 java.time 序列化器的模块
+     *
+     * @param zone 不带时区的类型使用的时区
+     * @return 模块
+     */
+    public static SimpleModule module(ZoneId zone) {
+        return module(zone, new DateSerializer(zone));
+    }
+
+    /**
+     * 使用系统时区格式化为 yyyy-MM-dd HH:mm:ss，与 module() 中的 Date 序列化结果一致
+     *
+     * @param value 日期
+     * @return yyyy-MM-dd HH:mm:ss
+     */
+    public static String format(Date value) {
+        return DATE_SERIALIZER.format(value);
+    }
+
+    private static SimpleModule module(ZoneId zone, DateSerializer dateSerializer) {
+        SimpleModule module = new SimpleModule("jackson-common-date-time");
+        module.addSerializer(Date.class, dateSerializer);
+        module.addDeserializer(Date.class, new DateDeserializer());
+        for (JavaTimeType type : JavaTimeType.values()) {
+            add(module, type, zone, dateSerializer);
+        }
+        return module;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T extends Temporal> void add(SimpleModule module, JavaTimeType type, ZoneId zone, DateSerializer dateSerializer) {
+        Class<T> handledType = (Class<T>) type.getType();
+        module.addSerializer(handledType, new JavaTimeSerializer<>(type, zone, dateSerializer));
+        module.addDeserializer(handledType, new JavaTimeDeserializer<>(type, zone));
+    }
+}
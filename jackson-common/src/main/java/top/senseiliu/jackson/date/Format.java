@@ -0,0 +1,44 @@
+package top.senseiliu.jackson.date;
+
+import java.text.SimpleDateFormat;
+import java.time.format.DateTimeFormatter;
+
+public final class Format {
+    /**
+     * SimpleDateFormat 不是线程安全的，不能在多个线程中共享，请使用对应的 DTF_*
+     */
+    @Deprecated
+    public static final SimpleDateFormat SDF_1 = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+    @Deprecated
+    public static final SimpleDateFormat SDF_2 = new SimpleDateFormat("yyyyMMddHHmmss");
+    @Deprecated
+    public static final SimpleDateFormat SDF_3 = new SimpleDateFormat("yyyy/MM/dd HH:mm:ss");
+    @Deprecated
+    public static final SimpleDateFormat SDF_4 = new SimpleDateFormat("yyyy-MM-dd");
+    @Deprecated
+    public static final SimpleDateFormat SDF_5 = new SimpleDateFormat("yyyyMMdd");
+
+    /**
+     * 不可变、线程安全的格式，与 SDF_* 一一对应
+     */
+    public static final String PATTERN_1 = "yyyy-MM-dd HH:mm:ss";
+    public static final String PATTERN_2 = "yyyyMMddHHmmss";
+    public static final String PATTERN_3 = "yyyy/MM/dd HH:mm:ss";
+    public static final String PATTERN_4 = "yyyy-MM-dd";
+    public static final String PATTERN_5 = "yyyyMMdd";
+
+    public static final DateTimeFormatter DTF_1 = DateTimeFormatter.ofPattern(PATTERN_1);
+    public static final DateTimeFormatter DTF_2 = DateTimeFormatter.ofPattern(PATTERN_2);
+    public static final DateTimeFormatter DTF_3 = DateTimeFormatter.ofPattern(PATTERN_3);
+    public static final DateTimeFormatter DTF_4 = DateTimeFormatter.ofPattern(PATTERN_4);
+    public static final DateTimeFormatter DTF_5 = DateTimeFormatter.ofPattern(PATTERN_5);
+
+    /**
+     * 按顺序尝试的格式
+     */
+    static final String[] PATTERNS = {PATTERN_1, PATTERN_2, PATTERN_3, PATTERN_4, PATTERN_5};
+
+    private Format() {
+    }
+
+}
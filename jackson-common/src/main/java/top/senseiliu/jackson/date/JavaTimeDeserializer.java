@@ -0,0 +1,102 @@
+package top.senseiliu.jackson.date;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.util.Date;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonTokenId;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+
+/**
+ * 反序列化 java.time 类型，与 {@link DateFormatExtend} 的宽松程度一致：
+ * <ol>
+ *     <li>字符串先由 {@link DateParser} 按形状直接解析（yyyy-MM-dd HH:mm:ss 等五种格式）</li>
+ *     <li>再按 ISO-8601 解析，保留偏移量与纳秒</li>
+ *     <li>最后交给 OBJECT_MAPPER 的日期格式，即 {@link DateFormatExtend} 的其余格式</li>
+ * </ol>
+ * 整数为时间戳，单位由 {@link DateTimeMode} 决定（默认毫秒）；不带时区的字符串使用系统时区换算
+ *
+ * @author liuguanliang
+ */
+public class JavaTimeDeserializer<T extends Temporal> extends StdScalarDeserializer<T> {
+    private static final long serialVersionUID = 1L;
+
+    private final transient JavaTimeType type;
+    private final transient ZoneId zone;
+
+    @SuppressWarnings("unchecked")
+    JavaTimeDeserializer(JavaTimeType type, ZoneId zone) {
+        super((Class<T>) type.getType());
+        this.type = type;
+        this.zone = zone;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        switch (p.currentTokenId()) {
+            case JsonTokenId.ID_STRING:
+                return parse(p.getText().trim(), ctxt);
+            case JsonTokenId.ID_NUMBER_INT:
+                long millis = DateTimes.modeOf(ctxt).toMillis(p.getLongValue());
+                return (T) type.fromInstant(Instant.ofEpochMilli(millis), zone);
+            case JsonTokenId.ID_NUMBER_FLOAT:
+                if (DateTimes.modeOf(ctxt) != DateTimeMode.EPOCH_SECONDS) {
+                    return (T) type.fromInstant(Instant.ofEpochMilli(p.getLongValue()), zone);
+                }
+                BigDecimal seconds = p.getDecimalValue();
+                long second = seconds.longValue();
+                int nanos = seconds.subtract(BigDecimal.valueOf(second)).movePointRight(9).intValue();
+                return (T) type.fromInstant(Instant.ofEpochSecond(second, nanos), zone);
+            case JsonTokenId.ID_EMBEDDED_OBJECT:
+                Object value = p.getEmbeddedObject();
+                if (handledType().isInstance(value)) {
+                    return (T) value;
+                }
+                if (value instanceof Date) {
+                    return (T) type.fromInstant(((Date) value).toInstant(), zone);
+                }
+                break;
+            default:
+                break;
+        }
+        return (T) ctxt.handleUnexpectedToken(handledType(), p);
+    }
+
+    @SuppressWarnings("unchecked")
+    private T parse(String text, DeserializationContext ctxt) throws IOException {
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        LocalDateTime local = DateParser.parseLocal(text);
+        if (local != null) {
+            return (T) type.fromLocal(local, zone);
+        }
+
+        try {
+            TemporalAccessor parsed = DateTimeFormatter.ISO_DATE_TIME.parseBest(text, ZonedDateTime::from, LocalDateTime::from);
+            return (T) (parsed instanceof ZonedDateTime
+                    ? type.fromZoned((ZonedDateTime) parsed, zone)
+                    : type.fromLocal((LocalDateTime) parsed, zone));
+        } catch (DateTimeParseException ignored) {
+            // 继续使用其余格式
+        }
+
+        try {
+            return (T) type.fromInstant(ctxt.parseDate(text).toInstant(), zone);
+        } catch (IllegalArgumentException e) {
+            return (T) ctxt.handleWeirdStringValue(handledType(), text, e.getMessage());
+        }
+    }
+}
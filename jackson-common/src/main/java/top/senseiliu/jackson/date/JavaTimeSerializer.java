@@ -0,0 +1,105 @@
+package top.senseiliu.jackson.date;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.Temporal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * 序列化 java.time 类型
+ * <ul>
+ *     <li>Instant、LocalDateTime：yyyy-MM-dd HH:mm:ss，与 Date 一致</li>
+ *     <li>LocalDate：yyyy-MM-dd</li>
+ *     <li>OffsetDateTime、ZonedDateTime：ISO-8601 带偏移量，比如 2022-04-03T10:15:30+08:00，不丢失时区信息</li>
+ * </ul>
+ * 前三种直接把数字写入复用的缓冲区，不创建 String；{@link DateTimeMode} 为数字时直接输出时间戳，不做任何格式化
+ *
+ * @author liuguanliang
+ */
+public class JavaTimeSerializer<T extends Temporal> extends StdSerializer<T> {
+    private static final long serialVersionUID = 1L;
+
+    private final transient JavaTimeType type;
+    private final transient ZoneId zone;
+    private final DateSerializer dateSerializer;
+
+    @SuppressWarnings("unchecked")
+    JavaTimeSerializer(JavaTimeType type, ZoneId zone, DateSerializer dateSerializer) {
+        super((Class<T>) type.getType());
+        this.type = type;
+        this.zone = zone;
+        this.dateSerializer = dateSerializer;
+    }
+
+    @Override
+    public void serialize(T value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        try {
+            DateTimeMode mode = DateTimes.modeOf(provider);
+            if (mode != DateTimeMode.STRING) {
+                Instant instant = type.toInstant(value, zone);
+                gen.writeNumber(mode == DateTimeMode.EPOCH_SECONDS ? instant.getEpochSecond() : instant.toEpochMilli());
+                return;
+            }
+
+            switch (type) {
+                case INSTANT:
+                    dateSerializer.serialize(((Instant) value).toEpochMilli(), gen);
+                    break;
+                case LOCAL_DATE_TIME:
+                    LocalDateTime dateTime = (LocalDateTime) value;
+                    char[] buffer = DateSerializer.buffer();
+                    if (writeDate(dateTime.toLocalDate(), buffer)) {
+                        buffer[10] = ' ';
+                        DateSerializer.write2(dateTime.getHour(), buffer, 11);
+                        buffer[13] = ':';
+                        DateSerializer.write2(dateTime.getMinute(), buffer, 14);
+                        buffer[16] = ':';
+                        DateSerializer.write2(dateTime.getSecond(), buffer, 17);
+                        gen.writeString(buffer, 0, DateSerializer.LENGTH);
+                    } else {
+                        gen.writeString(Format.DTF_1.format(dateTime));
+                    }
+                    break;
+                case LOCAL_DATE:
+                    buffer = DateSerializer.buffer();
+                    if (writeDate((LocalDate) value, buffer)) {
+                        gen.writeString(buffer, 0, 10);
+                    } else {
+                        gen.writeString(Format.DTF_4.format(value));
+                    }
+                    break;
+                default:
+                    gen.writeString(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value));
+                    break;
+            }
+        } catch (DateTimeException | ArithmeticException e) {
+            throw new RuntimeException("[Jackson]序列化" + handledType().getSimpleName() + "时发生异常，msg:" + e.getMessage());
+        }
+    }
+
+    /**
+     * 写入 yyyy-MM-dd，年份超出四位数时返回 false
+     */
+    private static boolean writeDate(LocalDate date, char[] buffer) {
+        int year = date.getYear();
+        if (year < 0 || year > 9999) {
+            return false;
+        }
+
+        DateSerializer.write2(year / 100, buffer, 0);
+        DateSerializer.write2(year % 100, buffer, 2);
+        buffer[4] = '-';
+        DateSerializer.write2(date.getMonthValue(), buffer, 5);
+        buffer[7] = '-';
+        DateSerializer.write2(date.getDayOfMonth(), buffer, 8);
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+package top.senseiliu.jackson.date;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.temporal.Temporal;
+
+/**
+ * 支持的 java.time 类型，以及它们与 Instant、LocalDateTime、ZonedDateTime 之间的转换
+ * <p>
+ * 不带时区的类型使用指定的时区（默认为系统时区）换算，与 Date 保持一致
+ *
+ * @author liuguanliang
+ */
+enum JavaTimeType {
+    INSTANT(Instant.class) {
+        @Override
+        Instant toInstant(Temporal value, ZoneId zone) {
+            return (Instant) value;
+        }
+
+        @Override
+        Temporal fromZoned(ZonedDateTime value, ZoneId zone) {
+            return value.toInstant();
+        }
+
+        @Override
+        Temporal fromLocal(LocalDateTime value, ZoneId zone) {
+            return value.atZone(zone).toInstant();
+        }
+    },
+    LOCAL_DATE_TIME(LocalDateTime.class) {
+        @Override
+        Instant toInstant(Temporal value, ZoneId zone) {
+            return ((LocalDateTime) value).atZone(zone).toInstant();
+        }
+
+        @Override
+        Temporal fromZoned(ZonedDateTime value, ZoneId zone) {
+            return value.withZoneSameInstant(zone).toLocalDateTime();
+        }
+
+        @Override
+        Temporal fromLocal(LocalDateTime value, ZoneId zone) {
+            return value;
+        }
+    },
+    LOCAL_DATE(LocalDate.class) {
+        @Override
+        Instant toInstant(Temporal value, ZoneId zone) {
+            return ((LocalDate) value).atStartOfDay(zone).toInstant();
+        }
+
+        @Override
+        Temporal fromZoned(ZonedDateTime value, ZoneId zone) {
+            return value.withZoneSameInstant(zone).toLocalDate();
+        }
+
+        @Override
+        Temporal fromLocal(LocalDateTime value, ZoneId zone) {
+            return value.toLocalDate();
+        }
+    },
+    OFFSET_DATE_TIME(OffsetDateTime.class) {
+        @Override
+        Instant toInstant(Temporal value, ZoneId zone) {
+            return ((OffsetDateTime) value).toInstant();
+        }
+
+        @Override
+        Temporal fromZoned(ZonedDateTime value, ZoneId zone) {
+            return value.toOffsetDateTime();
+        }
+
+        @Override
+        Temporal fromLocal(LocalDateTime value, ZoneId zone) {
+            return value.atZone(zone).toOffsetDateTime();
+        }
+    },
+    ZONED_DATE_TIME(ZonedDateTime.class) {
+        @Override
+        Instant toInstant(Temporal value, ZoneId zone) {
+            return ((ZonedDateTime) value).toInstant();
+        }
+
+        @Override
+        Temporal fromZoned(ZonedDateTime value, ZoneId zone) {
+            return value;
+        }
+
+        @Override
+        Temporal fromLocal(LocalDateTime value, ZoneId zone) {
+            return value.atZone(zone);
+        }
+    };
+
+    private final Class<? extends Temporal> type;
+
+    JavaTimeType(Class<? extends Temporal> type) {
+        this.type = type;
+    }
+
+    Class<? extends Temporal> getType() {
+        return type;
+    }
+
+    abstract Instant toInstant(Temporal value, ZoneId zone);
+
+    abstract Temporal fromZoned(ZonedDateTime value, ZoneId zone);
+
+    abstract Temporal fromLocal(LocalDateTime value, ZoneId zone);
+
+    Temporal fromInstant(Instant value, ZoneId zone) {
+        return fromZoned(value.atZone(zone), zone);
+    }
+}
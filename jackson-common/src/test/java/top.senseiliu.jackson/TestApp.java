@@ -0,0 +1,1229 @@
+package top.senseiliu.jackson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Serializable;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URL;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Enumeration;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TimeZone;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.annotation.JsonNaming;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lombok.Data;
+import lombok.experimental.Accessors;
+import org.junit.Assert;
+import org.junit.Test;
+import top.senseiliu.jackson.date.DateParser;
+import top.senseiliu.jackson.date.DateSerializer;
+import top.senseiliu.jackson.date.DateTimeMode;
+
+public class TestApp {
+    @Data
+    @Accessors(chain = true)
+    public static class User {
+        private Long userId;
+        private String name;
+        private String gender;
+        private Integer age;
+    }
+
+    public static class PrewarmProbe {
+        private static final AtomicInteger created = new AtomicInteger();
+        private String name;
+
+        public PrewarmProbe() {
+            created.incrementAndGet();
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    @Data
+    @Accessors(chain = true)
+    public static class UserDTO {
+        private String name;
+        private String gender;
+        private Integer age;
+        private Integer high;
+    }
+
+    @Test
+    public void JacksonTest() {
+        User user = new User().setUserId(1001L).setName("lgl").setGender("1").setAge(24);
+
+        // 对象 转 JacksonObject
+        JacksonObject jacksonObject = Jackson.convertObject(user);
+        Assert.assertNotNull(jacksonObject);
+
+        // 列表 转 JacksonArray
+        User user2 = new User().setUserId(1002L).setName("cyl").setGender("2").setAge(23);
+        List<User> users = Arrays.asList(user, user2);
+        JacksonArray jacksonArray = Jackson.convertArray(users);
+        Assert.assertNotNull(jacksonArray);
+
+        // 对象 转 对象
+        UserDTO userDTO = Jackson.convert(user, UserDTO.class);
+        Assert.assertEquals(userDTO.getName(), user.getName());
+        Map userMap = Jackson.convert(user, Map.class);
+        Assert.assertNotNull(userMap);
+        Map<String, String> userMapWithType = Jackson.convert(user, new TypeReference<Map<String, String>>() {});
+        Assert.assertNotNull(userMapWithType);
+
+        // 对象 转 JsonString
+        String userJsonStr = Jackson.objectToString(user);
+        Assert.assertNotNull(userJsonStr);
+        String userJsonStrPretty = Jackson.objectToStringPretty(user);
+        Assert.assertNotNull(userJsonStrPretty);
+
+        // JsonString 转 对象
+        String jsonString = "{\"userId\":1001,\"name\":\"lgl\",\"gender\":\"1\",\"age\":24,\"birth\":1215}";
+        User user1 = Jackson.parseJavaObject(jsonString, User.class);
+        Assert.assertNotNull(user1);
+        user1 = Jackson.parseJavaObject(jsonString, new TypeReference<User>() {});
+        Assert.assertNotNull(user1);
+
+        // 类型绑定
+        JacksonBinding<List<User>> usersBinding = Jackson.binding(new TypeReference<List<User>>() {});
+        Assert.assertSame(usersBinding, Jackson.binding(new TypeReference<List<User>>() {}));
+        Assert.assertSame(Jackson.binding(User.class), Jackson.binding(new TypeReference<User>() {}));
+        List<User> parsedUsers = usersBinding.parse("[" + jsonString + "]");
+        Assert.assertEquals(user1, parsedUsers.get(0));
+        Assert.assertEquals(parsedUsers, usersBinding.convert(Arrays.asList(user1)));
+
+        // JsonString 转 JacksonObject
+        JacksonObject jacksonObject1 = Jackson.parseObject(jsonString);
+        Assert.assertNotNull(jacksonObject1);
+
+        // JsonString 转 JacksonArray
+        String jsonArrayStr = "[{\"id\":1001,\"name\":\"lgl\",\"gender\":\"1\",\"age\":24,\"birth\":1215},{\"id\":1002,\"name\":\"cyl\",\"gender\":\"2\",\"age\":23,\"birth\":1014}]";
+        JacksonArray jacksonArray1 = Jackson.parseArray(jsonArrayStr);
+        Assert.assertNotNull(jacksonArray1);
+
+        // 对象 转 byte[]
+        byte[] bytes = Jackson.objectToBytes(user);
+        Assert.assertNotNull(bytes);
+
+        // byte[] ByteBuffer InputStream Reader Path 转 对象
+        byte[] jsonBytes = jsonString.getBytes(StandardCharsets.UTF_8);
+        byte[] padded = ("  " + jsonString + "  ").getBytes(StandardCharsets.UTF_8);
+        Assert.assertEquals(jacksonObject1.toJsonString(), Jackson.parseObject(jsonBytes).toJsonString());
+        Assert.assertEquals(jacksonObject1.toJsonString(), Jackson.parseObject(padded, 2, jsonBytes.length).toJsonString());
+        ByteBuffer direct = ByteBuffer.allocateDirect(jsonBytes.length);
+        direct.put(jsonBytes).flip();
+        Assert.assertEquals(user1, Jackson.parseJavaObject(direct, User.class));
+        Assert.assertEquals(0, direct.position());
+        Assert.assertEquals(user1, Jackson.parseJavaObject(ByteBuffer.wrap(jsonBytes), new TypeReference<User>() {}));
+        Assert.assertEquals(user1, Jackson.parseJavaObject(new ByteArrayInputStream(jsonBytes), User.class));
+        Assert.assertEquals(user1, Jackson.parseJavaObject(new StringReader(jsonString), User.class));
+        Assert.assertEquals(2, Jackson.parseArray(new StringReader(jsonArrayStr)).size());
+        Assert.assertEquals(2, Jackson.parseArray(jsonArrayStr.getBytes(StandardCharsets.UTF_8)).size());
+        try {
+            Path small = Files.createTempFile("jackson-common", ".json");
+            Files.write(small, jsonBytes);
+            Assert.assertEquals(user1, Jackson.parseJavaObject(small, User.class));
+            Files.delete(small);
+
+            // 超过 1MB 流式读取
+            Path large = Files.createTempFile("jackson-common", ".json");
+            StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < 20000; i++) {
+                sb.append(i == 0 ? "" : ",").append(jsonString);
+            }
+            Files.write(large, sb.append("]").toString().getBytes(StandardCharsets.UTF_8));
+            Assert.assertTrue(Files.size(large) > 1024 * 1024);
+            Assert.assertEquals(20000, Jackson.parseArray(large).size());
+            Files.delete(large);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+
+        // 对象 写入 OutputStream Writer ByteBuffer Channel
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Jackson.objectToStream(user, out);
+        Assert.assertEquals(userJsonStr, new String(out.toByteArray(), StandardCharsets.UTF_8));
+        StringWriter stringWriter = new StringWriter();
+        jacksonObject.writeJson(stringWriter);
+        Assert.assertEquals(jacksonObject.toJsonString(), stringWriter.toString());
+        ByteBuffer target = ByteBuffer.allocateDirect(1024);
+        target.position(3);
+        int written = jacksonObject.writeJson(target);
+        Assert.assertEquals(bytes.length, written);
+        Assert.assertEquals(3 + written, target.position());
+        ByteBuffer small = ByteBuffer.allocate(bytes.length - 1);
+        try {
+            Jackson.objectToBuffer(user, small);
+            Assert.fail();
+        } catch (BufferOverflowException e) {
+            Assert.assertEquals(0, small.position());
+        }
+        try {
+            Path file = Files.createTempFile("jackson-common", ".json");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+                Jackson.objectToChannel(user, channel);
+            }
+            Assert.assertEquals(userJsonStr, new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+            try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.WRITE)) {
+                Assert.assertEquals(bytes.length, (int) jacksonObject.writeJson(channel, bytes.length).get());
+            }
+            Assert.assertEquals(userJsonStr + jacksonObject.toJsonString(), new String(Files.readAllBytes(file), StandardCharsets.UTF_8));
+
+            // 超过初始缓冲区时扩容，JacksonArray 同样直接写入
+            JacksonArray manyUsers = new JacksonArray();
+            for (int i = 0; i < 1000; i++) {
+                manyUsers.add(user);
+            }
+            byte[] usersBytes = manyUsers.toJsonString().getBytes(StandardCharsets.UTF_8);
+            try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                Assert.assertEquals(usersBytes.length, (int) manyUsers.writeJson(channel, 0).get());
+            }
+            Assert.assertArrayEquals(usersBytes, Files.readAllBytes(file));
+
+            // 序列化失败时 future 异常完成，不直接抛出
+            try (AsynchronousFileChannel channel = AsynchronousFileChannel.open(file, StandardOpenOption.WRITE)) {
+                CompletableFuture<Integer> failed = Jackson.objectToChannel(new Object(), channel, 0);
+                Assert.assertTrue(failed.isCompletedExceptionally());
+            }
+            Assert.assertArrayEquals(usersBytes, Files.readAllBytes(file));
+            Files.delete(file);
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+
+        // 成员方法
+        Assert.assertNotNull(jacksonObject.toJsonString());
+        User user3 = jacksonObject.toJava(User.class);
+        Assert.assertNotNull(user3);
+        User user4 = jacksonObject.toJava(new TypeReference<User>() {});
+        Assert.assertNotNull(user4);
+        String s = jacksonObject.toString();
+        Assert.assertNotNull(s);
+    }
+
+    @Test
+    public void JacksonObjectTest() {
+        String jsonString = "{\"id\":1,\"good\":true,\"desc\":\"123\",\"currentDate\":\"2022-04-03\",\"user\":{\"id\":1001,\"name\":\"lgl\",\"gender\":\"1\",\"age\":24,\"birth\":1215},\"userList\":[{\"id\":1001,\"name\":\"lgl\",\"gender\":\"1\",\"age\":24,\"birth\":1215},{\"id\":1002,\"name\":\"cyl\",\"gender\":\"2\",\"age\":23,\"birth\":1014}]}";
+
+        JacksonObject jacksonObject = Jackson.parseObject(jsonString);
+        Assert.assertFalse(jacksonObject.isEmpty());
+        Assert.assertTrue(jacksonObject.size() > 0);
+        Assert.assertTrue(jacksonObject.contains("id"));
+
+        // 取 JacksonObject
+        JacksonObject userJacksonObject = jacksonObject.getJacksonObject("user");
+        Assert.assertNotNull(userJacksonObject);
+
+        // 取 JacksonArray
+        JacksonArray userList = jacksonObject.getJacksonArray("userList");
+        Assert.assertNotNull(userList);
+
+        // 取 Object
+        Object user = jacksonObject.getObject("user");
+        Assert.assertNotNull(user);
+        // 取 原生JsonNode
+        JsonNode user1 = jacksonObject.getNode("user");
+        Assert.assertNotNull(user1);
+
+        // 取 对象
+        User user2 = jacksonObject.getObject("user", User.class);
+        Assert.assertNotNull(user2);
+//        TestApp.User user3 = jacksonObject.getJavaObject("user");
+//        Assert.assertNotNull(user3);
+        List<User> userList1 = jacksonObject.getObject("userList", new TypeReference<List<User>>() {});
+        Assert.assertNotNull(userList1);
+
+        // 取 byte[]
+        byte[] users = jacksonObject.getBytes("user");
+        Assert.assertNull(users);
+
+        // 取属性
+        // Boolean
+        Boolean good = jacksonObject.getBoolean("good");
+        boolean good1 = jacksonObject.booleanValue("good");
+        Assert.assertEquals(good, good1);
+        // Short
+        Short id = jacksonObject.getShort("id");
+        short id1 = jacksonObject.shortValue("id");
+        Assert.assertEquals((short) id, id1);
+        // Integer
+        Integer id2 = jacksonObject.getInteger("id");
+        int id3 = jacksonObject.intValue("id");
+        Assert.assertEquals((int) id2, id3);
+        // Long
+        Long id4 = jacksonObject.getLong("id");
+        long id5 = jacksonObject.longValue("id");
+        Assert.assertEquals((long) id4, id5);
+        // Float
+        Float id6 = jacksonObject.getFloat("id");
+        Assert.assertTrue(id6 > 0);
+        float id7 = jacksonObject.floatValue("id");
+        Assert.assertTrue(id7 > 0);
+        // Double
+        Double id8 = jacksonObject.getDouble("id");
+        Assert.assertTrue(id8 > 0);
+        double id9 = jacksonObject.doubleValue("id");
+        Assert.assertTrue(id9 > 0);
+        // BigDecimal
+        BigDecimal id10 = jacksonObject.getBigDecimal("id");
+        Assert.assertNotNull(id10);
+        // BigInteger
+        BigInteger id11 = jacksonObject.getBigInteger("id");
+        Assert.assertNotNull(id11);
+        // String
+        String desc = jacksonObject.getString("desc");
+        Assert.assertNotNull(desc);
+        // LocalDateTime
+        Date currentDate = jacksonObject.getDateTime("currentDate");
+        Assert.assertNotNull(currentDate);
+
+        // 放入属性
+        JacksonObject jacksonObject1 = new JacksonObject();
+        jacksonObject1.put("currentDate", new Date());
+        String s = jacksonObject1.toJsonString();
+        Assert.assertNotEquals(s, "");
+
+        // 映射值
+        Serializable currentDate1 = jacksonObject1.map("currentDate", o -> {
+            JsonNode jsonNode = o.orElse(null);
+            if (null == jsonNode) {
+                return -1;
+            }
+
+            return jsonNode.asText();
+        });
+        Assert.assertNotNull(currentDate1);
+
+        // 存在操作
+        jacksonObject1.ifPresent("currentDate", System.out::println);
+
+        jacksonObject1.remove("currentDate");
+        Assert.assertEquals(0, jacksonObject1.size());
+    }
+
+    @Test
+    public void JacksonArrayTest() {
+        JacksonArray jacksonArray1 = new JacksonArray();
+        Assert.assertNotNull(jacksonArray1);
+        jacksonArray1.add(new User().setUserId(1003L).setName("lll").setGender("1").setAge(24));
+        Assert.assertTrue(jacksonArray1.size() > 0);
+        Assert.assertFalse(jacksonArray1.isEmpty());
+        Assert.assertTrue(jacksonArray1.contains(0));
+        jacksonArray1.remove(0);
+        jacksonArray1.addAll(Arrays.asList(new User().setUserId(1003L).setName("lll").setGender("1").setAge(24),
+                new User().setUserId(1004L).setName("lgl").setGender("1").setAge(24),
+                new User().setUserId(1005L).setName("eee").setGender("1").setAge(24)));
+        User zzz = new User().setUserId(1006L).setName("zzz").setGender("1").setAge(100);
+        jacksonArray1.set(0, zzz);
+        Assert.assertEquals("1006", jacksonArray1.get(0).get("userId").asText());
+        Assert.assertEquals(jacksonArray1.indexOf(zzz), 0);
+        Assert.assertNotNull(jacksonArray1.subList(1, 2));
+        Assert.assertNotNull(jacksonArray1.getJacksonObject(1));
+        Assert.assertNotNull(jacksonArray1.getObject(1, User.class));
+        Assert.assertNotNull(jacksonArray1.getObject(1, new TypeReference<User>() {}));
+
+
+        jacksonArray1.removeAll();
+
+        String jsonArrayString = "[{\"id\":1001,\"name\":\"lgl\",\"gender\":\"1\",\"age\":24,\"birth\":1215},{\"id\":1002,\"name\":\"cyl\",\"gender\":\"2\",\"age\":23,\"birth\":1014}]";
+        JacksonArray jacksonArray = Jackson.parseArray(jsonArrayString);
+        Assert.assertNotNull(jacksonArray);
+
+        for (JsonNode next : jacksonArray) {
+            Assert.assertNotNull(next.get("name"));
+        }
+
+        // 流式读取
+        try (Stream<JacksonObject> stream = Jackson.streamArray(new ByteArrayInputStream(jsonArrayString.getBytes(StandardCharsets.UTF_8)))) {
+            List<String> names = stream.map(o -> o.getString("name")).collect(Collectors.toList());
+            Assert.assertEquals(Arrays.asList("lgl", "cyl"), names);
+        }
+        JacksonArrayIterator iterator = Jackson.iterateArray(new ByteArrayInputStream("[]".getBytes(StandardCharsets.UTF_8)));
+        Assert.assertFalse(iterator.hasNext());
+
+        // NDJSON 写入与读取
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JacksonLineWriter lineWriter = Jackson.lineWriter(out)) {
+            lineWriter.write(new User().setUserId(1007L).setName("l1"))
+                    .write(Jackson.parseObject("{\"userId\":1008,\"name\":\"l2\"}"));
+        }
+        String lines = new String(out.toByteArray(), StandardCharsets.UTF_8);
+        Assert.assertEquals(2, lines.split("\n").length);
+        Assert.assertTrue(lines.endsWith("\n"));
+        try (Stream<JacksonObject> stream = Jackson.streamLines(new ByteArrayInputStream((lines + "\n").getBytes(StandardCharsets.UTF_8)))) {
+            List<Long> ids = stream.map(o -> o.getLong("userId")).collect(Collectors.toList());
+            Assert.assertEquals(Arrays.asList(1007L, 1008L), ids);
+        }
+    }
+
+    @Test
+    public void LazyJacksonObjectTest() throws Exception {
+        String jsonString = "{ \"id\" : 1, \"desc\":\"a\\\"b\", \"user\":{\"id\":1001,\"name\":\"lgl\"}, \"tags\":[1, 2], \"none\":null }";
+        byte[] jsonBytes = ("xx" + jsonString).getBytes(StandardCharsets.UTF_8);
+        for (JacksonObject lazy : Arrays.asList(Jackson.parseObjectLazy(jsonString), Jackson.parseObjectLazy(jsonBytes, 2, jsonBytes.length - 2))) {
+            JacksonObject eager = Jackson.parseObject(jsonString);
+            Assert.assertEquals(5, lazy.size());
+            Assert.assertEquals(1, lazy.intValue("id"));
+            Assert.assertEquals("a\"b", lazy.getString("desc"));
+            Assert.assertNull(lazy.getString("missing"));
+            Assert.assertTrue(lazy.getNode("none").isNull());
+            // 未修改时原样输出
+            Assert.assertEquals(jsonString.trim(), lazy.toJsonString());
+            Assert.assertEquals(eager.toJsonString(), Jackson.parseObject(Jackson.objectToStringPretty(lazy)).toJsonString());
+            // 二进制格式与 convertValue 逐个字段输出
+            for (JacksonFormat format : Arrays.asList(JacksonFormat.SMILE, JacksonFormat.CBOR)) {
+                Assert.assertEquals(eager.toJsonString(), Jackson.parseObject(Jackson.objectToBytes(lazy, format), format).toJsonString());
+            }
+            Assert.assertEquals(eager.toJsonString(), Jackson.objectToString(Jackson.OBJECT_MAPPER.convertValue(lazy, Map.class)));
+
+            // 取出对象后修改
+            lazy.getJacksonObject("user").put("age", 24);
+            Assert.assertEquals("lgl", lazy.getJacksonObject("user").getString("name"));
+            Assert.assertTrue(lazy.toJsonString().contains("\"age\":24"));
+            lazy.put("id", 2).remove("tags");
+            Assert.assertEquals(4, lazy.size());
+            Assert.assertEquals(2, lazy.intValue("id"));
+            eager.getJacksonObject("user").put("age", 24);
+            eager.put("id", 2).remove("tags");
+            Assert.assertEquals(eager.toJsonString(), lazy.toJsonString());
+        }
+
+        // 字段较多时使用索引
+        JacksonObject wide = new JacksonObject();
+        for (int i = 0; i < 50; i++) {
+            wide.put("f" + i, i);
+        }
+        wide.put("f7", "dup");
+        JacksonObject lazyWide = Jackson.parseObjectLazy(wide.toJsonString());
+        Assert.assertEquals(50, lazyWide.size());
+        Assert.assertEquals(42, lazyWide.intValue("f42"));
+        Assert.assertEquals("dup", lazyWide.getString("f7"));
+        Assert.assertEquals(wide.toJsonString(), lazyWide.toJsonString());
+
+        // UTF-8 字节直接复制到输出流，包括非 ASCII 字符与嵌套在其他对象中的情况
+        String text = "{ \"name\" : \"刘\u00e9\uD83D\uDE00\", \"tags\":[1, 2] }";
+        byte[] utf8 = text.getBytes(StandardCharsets.UTF_8);
+        Assert.assertArrayEquals(utf8, Jackson.objectToBytes(Jackson.parseObjectLazy(utf8)));
+        ObjectNode outer = Jackson.OBJECT_MAPPER.createObjectNode().put("a", 1);
+        outer.set("b", new LazyObjectNode(Jackson.OBJECT_MAPPER.getNodeFactory(), LazyFieldMap.scan(utf8, 0, utf8.length)));
+        outer.put("c", 2);
+        Assert.assertEquals("{\"a\":1,\"b\":" + text + ",\"c\":2}", new String(Jackson.objectToBytes(outer), StandardCharsets.UTF_8));
+        Assert.assertEquals(text, Jackson.parseObjectLazy(utf8).toJsonString());
+
+        // UTF-16、UTF-32 完整解析，结果与 String 一致
+        JacksonObject expected = Jackson.parseObject(text);
+        for (String charset : Arrays.asList("UTF-16BE", "UTF-16LE", "UTF-32BE")) {
+            JacksonObject utf16 = Jackson.parseObjectLazy(text.getBytes(Charset.forName(charset)));
+            Assert.assertEquals(expected.getString("name"), utf16.getString("name"));
+            Assert.assertEquals(expected.toJsonString(), utf16.toJsonString());
+            Assert.assertEquals(expected.toJsonString(), Jackson.parseObject(Jackson.objectToBytes(utf16)).toJsonString());
+        }
+    }
+
+    @Test
+    public void LazyJacksonObjectConcurrentReadTest() throws Exception {
+        JacksonObject source = new JacksonObject();
+        for (int i = 0; i < 20; i++) {
+            source.put("f" + i, i).put("o" + i, new JacksonObject().put("v", i));
+        }
+        String json = source.toJsonString();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 200; round++) {
+                char[] chars = json.toCharArray();
+                LazyObjectNode node = new LazyObjectNode(Jackson.OBJECT_MAPPER.getNodeFactory(), LazyFieldMap.scan(chars, 0, chars.length));
+                JacksonObject lazy = new JacksonObject(node);
+                CountDownLatch ready = new CountDownLatch(1);
+                List<Future<JsonNode>> futures = new ArrayList<>();
+                for (int t = 0; t < 8; t++) {
+                    int n = t;
+                    futures.add(executor.submit(() -> {
+                        ready.await();
+                        if (n % 4 == 0) {
+                            // 遍历字段触发转换，与其他线程的按需解析并发进行
+                            int count = 0;
+                            for (Iterator<String> names = node.fieldNames(); names.hasNext(); names.next()) {
+                                count++;
+                            }
+                            Assert.assertEquals(40, count);
+                        }
+                        for (int i = 0; i < 20; i++) {
+                            Assert.assertEquals(i, lazy.intValue("f" + i));
+                            Assert.assertEquals(i, lazy.getJacksonObject("o" + i).intValue("v"));
+                        }
+                        Assert.assertEquals(40, lazy.size());
+                        return lazy.getNode("o7");
+                    }));
+                }
+                ready.countDown();
+                JsonNode first = futures.get(0).get();
+                for (Future<JsonNode> future : futures) {
+                    // 同一个字段总是同一个节点
+                    Assert.assertSame(first, future.get());
+                }
+                Assert.assertEquals(json, lazy.toJsonString());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void JacksonPathTest() {
+        String jsonString = "{\"skip\":{\"deep\":[1,{\"x\":2}]},\"order\":{\"items\":[{\"name\":\"a\"},{\"name\":\"b\"}],\"customer\":{\"id\":1001,\"a/b\":true}}}";
+        JacksonPath customerId = JacksonPath.compile("$.order.customer.id");
+        Assert.assertEquals(1001, customerId.read(jsonString).intValue());
+        Assert.assertEquals(1001, customerId.read(jsonString.getBytes(StandardCharsets.UTF_8)).intValue());
+        Assert.assertEquals("b", JacksonPath.compile("$.order.items[1].name").read(jsonString).asText());
+        Assert.assertEquals("b", JacksonPath.compile("$['order'].items[1]['name']").read(jsonString).asText());
+        Assert.assertEquals("b", JacksonPath.compile("/order/items/1/name").read(jsonString).asText());
+        Assert.assertTrue(JacksonPath.compile("/order/customer/a~1b").read(jsonString).asBoolean());
+        Assert.assertNull(JacksonPath.compile("$.order.missing").read(jsonString));
+        Assert.assertNull(JacksonPath.compile("$.order.items[5]").read(jsonString));
+
+        // 一次解析多个路径，包括前缀路径
+        JsonNode[] values = JacksonPath.readAll(jsonString, customerId, JacksonPath.compile("$.order.customer"),
+                JacksonPath.compile("$.order.items[0].name"), JacksonPath.compile("$.nope"));
+        Assert.assertEquals(1001, values[0].intValue());
+        Assert.assertEquals(1001, values[1].get("id").intValue());
+        Assert.assertEquals("a", values[2].asText());
+        Assert.assertNull(values[3]);
+        Assert.assertEquals(Jackson.parseObject(jsonString).getNode("order"), JacksonPath.compile("$.order").read(jsonString));
+        Assert.assertEquals(Jackson.parseObject(jsonString).toJsonString(), JacksonPath.compile("$").read(jsonString).toString());
+    }
+
+    @Test
+    public void ProjectionTest() {
+        String jsonString = "{\"a\":{\"b\":1,\"x\":2},\"c\":[{\"d\":1,\"e\":2},{\"d\":3}],\"f\":\"skip\",\"g\":5,\"h\":{\"i\":{\"j\":1}}}";
+        JacksonObject projected = Jackson.parseObject(jsonString, new HashSet<>(Arrays.asList("a.b", "c.d", "g", "g.z", "h")));
+        Assert.assertEquals("{\"a\":{\"b\":1},\"c\":[{\"d\":1},{\"d\":3}],\"g\":5,\"h\":{\"i\":{\"j\":1}}}", projected.toJsonString());
+        JacksonProjection projection = JacksonProjection.parse("a.b,f.nope");
+        Assert.assertEquals("{\"a\":{\"b\":1}}", Jackson.parseObject(jsonString.getBytes(StandardCharsets.UTF_8), projection).toJsonString());
+        Assert.assertTrue(Jackson.parseObject(jsonString, JacksonProjection.parse("missing")).isEmpty());
+
+        // 相同的字段集合复用编译好的投影，调用方之后修改集合不影响缓存
+        Set<String> fields = new HashSet<>(Arrays.asList("g", "a.b"));
+        JacksonProjection cached = JacksonProjection.cached(fields);
+        Assert.assertSame(cached, JacksonProjection.cached(new HashSet<>(Arrays.asList("a.b", "g"))));
+        fields.add("f");
+        Assert.assertEquals("{\"a\":{\"b\":1},\"g\":5}", Jackson.parseObject(jsonString, new HashSet<>(Arrays.asList("a.b", "g"))).toJsonString());
+        Assert.assertNotSame(cached, JacksonProjection.cached(fields));
+    }
+
+    @Test
+    public void RecyclerPoolTest() {
+        String jsonString = "{\"id\":1001,\"name\":\"lgl\"}";
+        try {
+            for (String name : Arrays.asList("lock-free", "striped", "bounded", "none", "thread-local")) {
+                Jackson.setRecyclerPool(JacksonRecyclerPools.of(name));
+                Assert.assertEquals(jsonString, Jackson.parseObject(jsonString).toJsonString());
+                Assert.assertEquals(jsonString, Jackson.objectToString(Jackson.parseObject(jsonString), JacksonOptions.DEFAULT));
+            }
+        } finally {
+            Jackson.setRecyclerPool(JacksonRecyclerPools.threadLocal());
+        }
+    }
+
+    @Test
+    public void OtherTest() {
+        @Data
+        @Accessors(chain = true)
+        // 为null的字段不输出
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        // 命名策略
+        @JsonNaming(PropertyNamingStrategies.UpperSnakeCaseStrategy.class)
+        class Goods {
+            private Long id;
+            // 序列化别名
+            // @JsonProperty("goodsName")
+            private String goodsName;
+            private String desc;
+            private Integer price;
+        }
+
+        Goods goods = new Goods().setId(1001L).setGoodsName("可乐").setPrice(3);
+        String s = Jackson.objectToString(goods);
+        Assert.assertNotNull(s);
+
+        String s1 = Jackson.objectToString(goods);
+        Assert.assertNotNull(s1);
+        String s2 = Jackson.objectToString(goods, PropertyNamingStrategies.UPPER_SNAKE_CASE);
+        Assert.assertNotNull(s2);
+
+        // 选项对应的 ObjectWriter 只构建一次
+        JacksonOptions snakeCase = JacksonOptions.DEFAULT.namingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+        Assert.assertSame(Jackson.writer(snakeCase), Jackson.writer(JacksonOptions.DEFAULT.namingStrategy(PropertyNamingStrategies.SNAKE_CASE)));
+        Assert.assertSame(Jackson.reader(snakeCase), Jackson.reader(snakeCase));
+        User user = new User().setUserId(1001L).setName("lgl");
+        String snakeJson = Jackson.objectToString(user, snakeCase);
+        Assert.assertTrue(snakeJson.contains("\"user_id\":1001"));
+        Assert.assertEquals(user, Jackson.parseJavaObject(snakeJson, User.class, snakeCase));
+        Assert.assertTrue(Jackson.objectToString(user).contains("\"userId\":1001"));
+    }
+
+    @Test
+    public void NodeKindsInEveryFormatTest() {
+        String lazyJson = "{\"id\":1001,\"name\":\"lgl\",\"tags\":[1,2]}";
+        ObjectNode compact = JacksonNodeFactory.of(true).objectNode();
+        compact.put("id", 1).putObject("nested").put("ok", true);
+        ObjectNode nodes = Jackson.OBJECT_MAPPER.createObjectNode();
+        nodes.set("ints", Jackson.OBJECT_MAPPER.createArrayNode().add(1).add(-2));
+        nodes.set("longs", Jackson.OBJECT_MAPPER.createArrayNode().add(1L << 40).add(-3L));
+        nodes.set("doubles", Jackson.OBJECT_MAPPER.createArrayNode().add(1.5).add(-0.25));
+        nodes.set("compact", compact);
+        nodes.set("lazy", new LazyObjectNode(Jackson.OBJECT_MAPPER.getNodeFactory(), scan(lazyJson)));
+        String expected = "{\"ints\":[1,-2],\"longs\":[1099511627776,-3],\"doubles\":[1.5,-0.25],"
+                + "\"compact\":{\"id\":1,\"nested\":{\"ok\":true}},\"lazy\":" + lazyJson + "}";
+
+        // 每种节点单独作为根节点，以及嵌套在普通对象中，在每种格式下都能写出并读回
+        List<JsonNode> roots = Arrays.asList(nodes, compact, new LazyObjectNode(Jackson.OBJECT_MAPPER.getNodeFactory(), scan(lazyJson)),
+                nodes.get("ints"), nodes.get("longs"), nodes.get("doubles"));
+        List<String> texts = Arrays.asList(expected, compact.toString(), lazyJson, "[1,-2]", "[1099511627776,-3]", "[1.5,-0.25]");
+        Assert.assertEquals(expected, Jackson.objectToString(nodes));
+        for (JacksonFormat format : Arrays.asList(JacksonFormat.JSON, JacksonFormat.SMILE, JacksonFormat.CBOR)) {
+            for (int i = 0; i < roots.size(); i++) {
+                byte[] bytes = Jackson.objectToBytes(roots.get(i), format);
+                String read = roots.get(i).isArray() ? Jackson.parseArray(bytes, format).toString() : Jackson.parseObject(bytes, format).toString();
+                Assert.assertEquals(format + ":" + i, texts.get(i), read);
+            }
+        }
+    }
+
+    private static LazyFieldMap scan(String json) {
+        char[] chars = json.toCharArray();
+        try {
+            return LazyFieldMap.scan(chars, 0, chars.length);
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    public void BinaryFormatTest() {
+        Date date = new Date(1700000000000L);
+        User user = new User().setUserId(1001L).setName("lgl");
+        JacksonObject jacksonObject = new JacksonObject().put("id", 1001).put("name", "lgl").put("date", date);
+        String json = jacksonObject.toString();
+
+        for (JacksonFormat format : Arrays.asList(JacksonFormat.SMILE, JacksonFormat.CBOR)) {
+            byte[] bytes = jacksonObject.toBytes(format);
+            Assert.assertEquals(json, Jackson.parseObject(bytes, format).toString());
+            Assert.assertEquals(json, Jackson.parseObject(new ByteArrayInputStream(bytes), format).toString());
+
+            byte[] userBytes = Jackson.objectToBytes(user, format);
+            Assert.assertEquals(user, Jackson.parseJavaObject(userBytes, User.class, format));
+
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            Jackson.objectToStream(Arrays.asList(user, user), outputStream, format);
+            List<User> users = Jackson.parseJavaObject(outputStream.toByteArray(), new TypeReference<List<User>>() {
+            }, format);
+            Assert.assertEquals(Arrays.asList(user, user), users);
+            Assert.assertEquals(2, Jackson.parseArray(outputStream.toByteArray(), format).size());
+        }
+
+        // JSON 格式与原有方法结果一致
+        Assert.assertArrayEquals(Jackson.objectToBytes(user), Jackson.objectToBytes(user, JacksonFormat.JSON));
+    }
+
+    @Test
+    public void AcceleratorTest() throws Exception {
+        Assert.assertNull(JacksonAccelerators.of("none"));
+        Assert.assertNotNull(JacksonAccelerators.auto());
+
+        User user = new User().setUserId(1001L).setName("lgl");
+        String json = Jackson.objectToString(user);
+        for (String name : Arrays.asList("afterburner", "blackbird")) {
+            ObjectMapper objectMapper = Jackson.OBJECT_MAPPER.copy().registerModule(JacksonAccelerators.of(name));
+            // 加速后结果与默认实现一致，局部类等无法优化的类自动回退
+            Assert.assertEquals(json, objectMapper.writeValueAsString(user));
+            Assert.assertEquals(user, objectMapper.readValue(json, User.class));
+        }
+    }
+
+    @Test
+    public void MetricsTest() throws Exception {
+        Assert.assertNull(Jackson.getListener());
+        // 阈值为 0，每次调用都会被采样
+        JacksonMetrics metrics = new JacksonMetrics(0, 4, true).register();
+        // 默认不保留 json 内容
+        JacksonMetrics withoutPreview = new JacksonMetrics(0, 4);
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        Jackson.setListener(JacksonListener.composite(metrics, withoutPreview, new JacksonMicrometerListener(registry)));
+        try {
+            User user = new User().setUserId(1001L).setName("lgl");
+            String json = Jackson.objectToString(user);
+            Jackson.parseJavaObject(json, User.class);
+            Jackson.parseJavaObject(json.getBytes(StandardCharsets.UTF_8), User.class);
+            Jackson.parseObject(json);
+            Jackson.convert(user, Map.class);
+            try {
+                Jackson.parseObject("{");
+                Assert.fail();
+            } catch (RuntimeException e) {
+                // 解析失败
+            }
+
+            Assert.assertEquals(2, metrics.count(JacksonOperation.PARSE_JAVA_OBJECT));
+            Assert.assertEquals(1, metrics.count(JacksonOperation.OBJECT_TO_STRING));
+            Assert.assertEquals(1, metrics.count(JacksonOperation.CONVERT));
+            Assert.assertEquals(1, metrics.errors(JacksonOperation.PARSE_OBJECT));
+            Assert.assertEquals(json.length(), metrics.outputSize(JacksonOperation.OBJECT_TO_STRING));
+            Assert.assertEquals(json.length() * 2L, metrics.inputSize(JacksonOperation.PARSE_JAVA_OBJECT));
+            Assert.assertTrue(metrics.latencyNanos(JacksonOperation.PARSE_JAVA_OBJECT, 0.99) > 0);
+            Assert.assertEquals(Long.valueOf(3), metrics.getTypeCounts().get(User.class.getTypeName()));
+            Assert.assertEquals(4, metrics.slowSamples().size());
+            Assert.assertEquals(JacksonOperation.CONVERT, metrics.slowSamples().get(3).getOperation());
+            Assert.assertEquals(json, metrics.slowSamples().get(2).getPreview());
+            Assert.assertNull(withoutPreview.slowSamples().get(2).getPreview());
+
+            // 多字节字符先解码再截断
+            StringBuilder wide = new StringBuilder("[");
+            for (int i = 0; i < 400; i++) {
+                wide.append("\"刘\",");
+            }
+            byte[] wideBytes = wide.append("1]").toString().getBytes(StandardCharsets.UTF_8);
+            Jackson.parseArray(wideBytes);
+            String preview = metrics.slowSamples().get(3).getPreview();
+            Assert.assertEquals(JacksonMetrics.PREVIEW_LENGTH, preview.length());
+            Assert.assertTrue(wide.toString().startsWith(preview));
+
+            // JMX
+            ObjectName objectName = new ObjectName(JacksonMetrics.OBJECT_NAME);
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            Assert.assertNotNull(server.getAttribute(objectName, "P99Millis"));
+            Assert.assertEquals(4, ((String[]) server.getAttribute(objectName, "SlowSamples")).length);
+
+            // Micrometer
+            Assert.assertEquals(2, registry.get("jackson.operation").tag("method", "parseJavaObject").timer().count());
+            Assert.assertEquals(1.0, registry.get("jackson.errors").tag("method", "parseObject").counter().count(), 0);
+            Assert.assertEquals(2.0, registry.get("jackson.type").tag("method", "parseJavaObject")
+                    .tag("type", User.class.getTypeName()).counter().count(), 0);
+            // String 的长度与字节数分开记录
+            Assert.assertEquals(json.length(), registry.get("jackson.output.chars").tag("method", "objectToString").summary().totalAmount(), 0);
+            Assert.assertEquals(json.length(), registry.get("jackson.input.size").tag("method", "parseJavaObject").summary().totalAmount(), 0);
+
+            // 片段、ByteBuffer、流、二进制格式、按需解析同样记录
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            Jackson.parseObject(ByteBuffer.wrap(bytes));
+            Jackson.parseObject(new ByteArrayInputStream(bytes));
+            Jackson.parseJavaObject(bytes, 0, bytes.length, User.class);
+            Jackson.parseObjectLazy(bytes, 0, bytes.length);
+            byte[] smile = Jackson.objectToBytes(user, JacksonFormat.SMILE);
+            Jackson.parseJavaObject(smile, User.class, JacksonFormat.SMILE);
+            // 二进制格式不作为 payload
+            Assert.assertNull(metrics.slowSamples().get(3).getPreview());
+            Jackson.objectToStream(user, new ByteArrayOutputStream());
+            Jackson.objectToWriter(user, new StringWriter());
+            int written = Jackson.objectToBuffer(user, ByteBuffer.allocate(1024));
+            Jackson.parseObject(json).toJsonString();
+            Assert.assertEquals(4, metrics.count(JacksonOperation.PARSE_OBJECT));
+            Assert.assertEquals(bytes.length * 2L + json.length(), metrics.inputSize(JacksonOperation.PARSE_OBJECT));
+            Assert.assertEquals(4, metrics.count(JacksonOperation.PARSE_JAVA_OBJECT));
+            Assert.assertEquals(1, metrics.count(JacksonOperation.PARSE_OBJECT_LAZY));
+            Assert.assertEquals(smile.length, metrics.outputSize(JacksonOperation.OBJECT_TO_BYTES));
+            Assert.assertEquals(1, metrics.count(JacksonOperation.OBJECT_TO_STREAM));
+            Assert.assertEquals(1, metrics.count(JacksonOperation.OBJECT_TO_WRITER));
+            Assert.assertEquals(written, metrics.outputSize(JacksonOperation.OBJECT_TO_BUFFER));
+            Assert.assertEquals(2, metrics.count(JacksonOperation.OBJECT_TO_STRING));
+        } finally {
+            Jackson.setListener(null);
+            metrics.unregister();
+        }
+    }
+
+    @Test
+    public void PrewarmTest() {
+        JacksonPrewarmReport report = Jackson.prewarm(User.class, UserDTO.class);
+        Assert.assertTrue(report.getTimings().containsKey(User.class.getTypeName()));
+        Assert.assertTrue(report.getTimings().containsKey(UserDTO.class.getTypeName()));
+        Assert.assertTrue(report.getFailures().isEmpty());
+
+        TypeReference<List<User>> users = new TypeReference<List<User>>() {
+        };
+        report = Jackson.prewarm(users);
+        // JacksonObject、JacksonArray 只在第一次预热
+        Assert.assertEquals(1, report.getTimings().size());
+        Assert.assertTrue(report.getTimings().containsKey(users.getType().getTypeName()));
+
+        // 扫描测试类所在的包，并行预热
+        report = Jackson.prewarmPackage("top.senseiliu.jackson", true);
+        Assert.assertTrue(report.getTimings().containsKey(User.class.getTypeName()));
+        Assert.assertTrue(report.getTimings().containsKey(JacksonOptions.class.getTypeName()));
+        Assert.assertFalse(report.getTimings().containsKey(Jackson.class.getTypeName()));
+        Assert.assertFalse(report.getTimings().containsKey(JacksonListener.class.getTypeName()));
+        Assert.assertNotNull(report.toString());
+
+        // 只查找序列化器与反序列化器，不创建实例
+        Assert.assertTrue(Jackson.prewarm(PrewarmProbe.class).getFailures().isEmpty());
+        Assert.assertEquals(0, PrewarmProbe.created.get());
+    }
+
+    @Test
+    public void PrewarmScanJarTest() throws Exception {
+        // Spring Boot 可执行 jar 的布局，类在 BOOT-INF/classes/ 下
+        Path jar = Files.createTempFile("prewarm", ".jar");
+        String entry = User.class.getName().replace('.', '/') + ".class";
+        try (JarOutputStream outputStream = new JarOutputStream(Files.newOutputStream(jar));
+             InputStream inputStream = TestApp.class.getClassLoader().getResourceAsStream(entry)) {
+            outputStream.putNextEntry(new JarEntry("BOOT-INF/classes/" + entry));
+            byte[] buffer = new byte[4096];
+            for (int n; (n = inputStream.read(buffer)) > 0; ) {
+                outputStream.write(buffer, 0, n);
+            }
+            outputStream.closeEntry();
+        }
+        URL url = new URL("jar:" + jar.toUri() + "!/BOOT-INF/classes/top/senseiliu/jackson");
+        ClassLoader classLoader = new ClassLoader(TestApp.class.getClassLoader()) {
+            @Override
+            public Enumeration<URL> getResources(String name) {
+                return Collections.enumeration(Collections.singletonList(url));
+            }
+        };
+        Assert.assertEquals(Collections.singletonList(User.class), JacksonPrewarmer.scan("top.senseiliu.jackson", classLoader));
+        Files.delete(jar);
+    }
+
+    @Test
+    public void DateParseConcurrencyTest() throws Exception {
+        String[] texts = {"2022-04-03 10:15:30", "20220403101530", "2022/04/03 10:15:30", "2022-04-03", "20220403",
+                "2022-4-3 10:15:30", "2022-04-03T10:15:30.000Z"};
+        String[] patterns = {"yyyy-MM-dd HH:mm:ss", "yyyyMMddHHmmss", "yyyy/MM/dd HH:mm:ss", "yyyy-MM-dd", "yyyyMMdd",
+                "yyyy-MM-dd HH:mm:ss", "yyyy-MM-dd'T'HH:mm:ss.SSSX"};
+        long[] expected = new long[texts.length];
+        for (int i = 0; i < texts.length; i++) {
+            expected[i] = new SimpleDateFormat(patterns[i]).parse(texts[i]).getTime();
+            Assert.assertEquals(expected[i], Jackson.parseJavaObject("\"" + texts[i] + "\"", Date.class).getTime());
+        }
+        Assert.assertNull(DateParser.parse("2022-04-03 10:15", ZoneId.systemDefault()));
+
+        // 多线程同时解析各种格式，结果不能错乱
+        int threads = 16;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    int errors = 0;
+                    for (int i = 0; i < 2000; i++) {
+                        int index = (i + offset) % texts.length;
+                        Date date = Jackson.parseJavaObject("\"" + texts[index] + "\"", Date.class);
+                        if (date.getTime() != expected[index]) {
+                            errors++;
+                        }
+                    }
+                    return errors;
+                }));
+            }
+            for (Future<Integer> future : futures) {
+                Assert.assertEquals(0, (int) future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void DateSerializerTest() throws Exception {
+        // 跨越夏令时切换的一段时间，逐个与 SimpleDateFormat 比较
+        for (String zone : Arrays.asList("Asia/Shanghai", "America/New_York", "UTC")) {
+            SimpleDateFormat simpleDateFormat = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+            simpleDateFormat.setTimeZone(TimeZone.getTimeZone(zone));
+            DateSerializer serializer = new DateSerializer(ZoneId.of(zone));
+            long start = 1699142400000L - 3 * 24 * 3600 * 1000L;
+            for (long millis = start; millis < start + 6 * 24 * 3600 * 1000L; millis += 599_999L) {
+                Date date = new Date(millis);
+                Assert.assertEquals(simpleDateFormat.format(date), serializer.format(date));
+            }
+            Date before = new Date(-1L);
+            Assert.assertEquals(simpleDateFormat.format(before), serializer.format(before));
+            // 年份超出 0 ~ 9999 时与 SimpleDateFormat 一致
+            for (long millis : new long[]{253402300800000L, -62167219200001L, Long.MAX_VALUE, Long.MIN_VALUE}) {
+                Assert.assertEquals(simpleDateFormat.format(new Date(millis)), serializer.format(new Date(millis)));
+            }
+        }
+        // 儒略历与格里高利历切换前后
+        DateSerializer utc = new DateSerializer(ZoneOffset.UTC);
+        Assert.assertEquals("1582-10-15 00:00:00", utc.format(new Date(-12219292800000L)));
+        Assert.assertEquals("1582-10-04 23:59:59", utc.format(new Date(-12219292800001L)));
+        Assert.assertTrue(Jackson.objectToString(new Date(Long.MAX_VALUE)).startsWith("\"292278994-"));
+        try {
+            DateTimeMode.EPOCH_SECONDS.toMillis(Long.MAX_VALUE / 100);
+            Assert.fail();
+        } catch (ArithmeticException e) {
+            // 溢出
+        }
+
+        Date date = new Date(1648952130123L);
+        Assert.assertEquals("\"" + new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(date) + "\"", Jackson.objectToString(date));
+    }
+
+    @Test
+    public void JavaTimeTest() {
+        LocalDateTime localDateTime = LocalDateTime.of(2022, 4, 3, 10, 15, 30);
+        ZonedDateTime zonedDateTime = localDateTime.atZone(ZoneId.systemDefault());
+        Instant instant = zonedDateTime.toInstant();
+        OffsetDateTime offsetDateTime = OffsetDateTime.of(localDateTime, ZoneOffset.ofHours(8));
+
+        Assert.assertEquals("\"2022-04-03 10:15:30\"", Jackson.objectToString(localDateTime));
+        Assert.assertEquals("\"2022-04-03 10:15:30\"", Jackson.objectToString(instant));
+        Assert.assertEquals("\"2022-04-03\"", Jackson.objectToString(localDateTime.toLocalDate()));
+        Assert.assertEquals("\"2022-04-03T10:15:30+08:00\"", Jackson.objectToString(offsetDateTime));
+        Assert.assertEquals(offsetDateTime, Jackson.parseJavaObject(Jackson.objectToString(offsetDateTime), OffsetDateTime.class));
+        Assert.assertEquals(zonedDateTime.toInstant(),
+                Jackson.parseJavaObject(Jackson.objectToString(zonedDateTime), ZonedDateTime.class).toInstant());
+
+        // 与 DateFormatExtend 相同的格式
+        for (String text : Arrays.asList("2022-04-03 10:15:30", "20220403101530", "2022/04/03 10:15:30", "2022-4-3 10:15:30")) {
+            String json = "\"" + text + "\"";
+            Assert.assertEquals(localDateTime, Jackson.parseJavaObject(json, LocalDateTime.class));
+            Assert.assertEquals(instant, Jackson.parseJavaObject(json, Instant.class));
+        }
+        Assert.assertEquals(localDateTime.toLocalDate(), Jackson.parseJavaObject("\"20220403\"", LocalDate.class));
+        Assert.assertEquals(Instant.parse("2022-04-03T02:15:30.123Z"), Jackson.parseJavaObject("\"2022-04-03T02:15:30.123Z\"", Instant.class));
+
+        // 单次调用输出时间戳
+        JacksonOptions seconds = JacksonOptions.DEFAULT.dateTimeMode(DateTimeMode.EPOCH_SECONDS);
+        Assert.assertEquals(String.valueOf(instant.getEpochSecond()), Jackson.objectToString(localDateTime, seconds));
+        Assert.assertEquals(localDateTime, Jackson.parseJavaObject(String.valueOf(instant.getEpochSecond()), LocalDateTime.class, seconds));
+        Date date = Date.from(instant);
+        Assert.assertEquals(date, Jackson.parseJavaObject(Jackson.objectToString(date, seconds), Date.class, seconds));
+
+        // 全局输出时间戳
+        Jackson.setDateTimeMode(DateTimeMode.EPOCH_MILLIS);
+        try {
+            Assert.assertEquals(String.valueOf(instant.toEpochMilli()), Jackson.objectToString(instant));
+            Assert.assertEquals(String.valueOf(date.getTime()), Jackson.objectToString(date));
+            Assert.assertEquals(instant, Jackson.parseJavaObject(Jackson.objectToString(instant), Instant.class));
+            Assert.assertEquals("\"2022-04-03 10:15:30\"", Jackson.objectToString(localDateTime, JacksonOptions.DEFAULT.dateTimeMode(DateTimeMode.STRING)));
+        } finally {
+            Jackson.setDateTimeMode(DateTimeMode.STRING);
+        }
+    }
+
+    @Test
+    public void CoercionTest() {
+        JacksonObject jacksonObject = Jackson.parseObject("{\"int\":\" 42 \",\"double\":\"1.5\",\"exp\":\"1e2\",\"bool\":\"true\","
+                + "\"empty\":\"\",\"null\":null,\"text\":\"abc\",\"number\":1,\"date\":\"2022-04-03\"}");
+        Assert.assertEquals(42, jacksonObject.intValue("int"));
+        Assert.assertEquals(Long.valueOf(42), jacksonObject.getLong("int"));
+        Assert.assertEquals(Short.valueOf((short) 42), jacksonObject.getShort("int"));
+        Assert.assertEquals(1.5, jacksonObject.doubleValue("double"), 0);
+        Assert.assertEquals(100.0, jacksonObject.getDouble("exp"), 0);
+        Assert.assertEquals(new BigDecimal("1.5"), jacksonObject.getBigDecimal("double"));
+        Assert.assertEquals(BigInteger.valueOf(42), jacksonObject.getBigInteger("int"));
+        Assert.assertTrue(jacksonObject.booleanValue("bool"));
+        Assert.assertTrue(jacksonObject.getBoolean("number"));
+        Assert.assertEquals(1.0F, jacksonObject.floatValue("number"), 0);
+        Assert.assertNotNull(jacksonObject.getDateTime("date"));
+
+        // 不存在、null、空字符串：基本类型返回 0，包装类型返回 null
+        for (String key : Arrays.asList("missing", "null", "empty")) {
+            Assert.assertEquals(0, jacksonObject.intValue(key));
+            Assert.assertEquals(0L, jacksonObject.longValue(key));
+            Assert.assertFalse(jacksonObject.booleanValue(key));
+            Assert.assertNull(jacksonObject.getInteger(key));
+            Assert.assertNull(jacksonObject.getDouble(key));
+            Assert.assertNull(jacksonObject.getBigDecimal(key));
+            Assert.assertNull(jacksonObject.getDateTime(key));
+        }
+
+        for (String key : Arrays.asList("text", "double")) {
+            try {
+                jacksonObject.intValue(key);
+                Assert.fail();
+            } catch (IllegalArgumentException e) {
+                Assert.assertTrue(e.getMessage().startsWith("[Jackson]"));
+            }
+        }
+
+        JacksonArray jacksonArray = Jackson.parseArray("[\"7\",\"2.5\",null]");
+        Assert.assertEquals(7L, jacksonArray.longValue(0));
+        Assert.assertEquals(2.5, jacksonArray.getDouble(1), 0);
+        Assert.assertNull(jacksonArray.getInteger(2));
+        Assert.assertEquals(0, jacksonArray.intValue(3));
+    }
+
+    @Test
+    public void BindingTest() {
+        JacksonArray jacksonArray = new JacksonArray();
+        for (long i = 0; i < 100; i++) {
+            jacksonArray.add(new User().setUserId(i).setName("lgl" + i));
+        }
+
+        List<User> users = jacksonArray.toList(User.class);
+        Assert.assertEquals(100, users.size());
+        Assert.assertEquals(new User().setUserId(99L).setName("lgl99"), users.get(99));
+        Assert.assertEquals(users, jacksonArray.toJava(new TypeReference<List<User>>() {
+        }));
+        List<Map<String, Object>> maps = jacksonArray.toList(new TypeReference<Map<String, Object>>() {
+        });
+        Assert.assertEquals("lgl0", maps.get(0).get("name"));
+
+        JacksonObject jacksonObject = new JacksonObject().put("user", users.get(1));
+        Assert.assertEquals(users.get(1), jacksonObject.getObject("user", User.class));
+        Assert.assertTrue(jacksonObject.toJava(Map.class).containsKey("user"));
+        // 节点类型返回副本，修改副本不影响原对象
+        ObjectNode userNode = jacksonObject.getObject("user", ObjectNode.class);
+        Assert.assertEquals(jacksonObject.getNode("user"), userNode);
+        Assert.assertNotSame(jacksonObject.getNode("user"), userNode);
+        userNode.put("name", "changed");
+        Assert.assertEquals("lgl1", jacksonObject.getJacksonObject("user").getString("name"));
+        JsonNode copied = jacksonObject.getObject("user", JsonNode.class);
+        ((ObjectNode) copied).remove("name");
+        Assert.assertTrue(jacksonObject.getJacksonObject("user").contains("name"));
+        jacksonObject.getJacksonObject("user").toJava(ObjectNode.class).removeAll();
+        Jackson.convert(jacksonObject.getNode("user"), ObjectNode.class).removeAll();
+        Assert.assertEquals(users.get(1), jacksonObject.getObject("user", User.class));
+        // 不存在时返回 null
+        Assert.assertNull(jacksonObject.getObject("missing", User.class));
+        Assert.assertNull(jacksonArray.getObject(100, User.class));
+    }
+
+    @Test
+    public void PutTest() {
+        JacksonObject child = new JacksonObject().put("a", 1);
+        JacksonObject jacksonObject = new JacksonObject()
+                .put("int", 1)
+                .put("long", 2L)
+                .put("float", 0.1F)
+                .put("double", 0.5)
+                .put("bool", true)
+                .put("char", 'c')
+                .put("string", "s")
+                .put("null", (String) null)
+                .put("decimal", new BigDecimal("1.10"))
+                .put("list", Arrays.asList(1, "a", null))
+                .put("child", child);
+        Assert.assertEquals("{\"int\":1,\"long\":2,\"float\":0.1,\"double\":0.5,\"bool\":true,\"char\":\"c\",\"string\":\"s\","
+                + "\"null\":null,\"decimal\":1.1,\"list\":[1,\"a\",null],\"child\":{\"a\":1}}", jacksonObject.toString());
+        // 放入的是副本，之后修改原对象不影响
+        child.put("b", 2);
+        Assert.assertEquals(1, jacksonObject.getJacksonObject("child").size());
+
+        JacksonArray jacksonArray = new JacksonArray().add(1).add(2L).add(0.5).add(true).add('c').add("s", null);
+        jacksonArray.set(0, "x").set(1, 3).set(9, false);
+        Assert.assertEquals("[\"x\",3,0.5,true,\"c\",\"s\",null,false]", jacksonArray.toString());
+        Assert.assertEquals(6, jacksonArray.indexOf(null));
+        Assert.assertEquals(4, jacksonArray.indexOf('c'));
+    }
+
+    @Test
+    public void PutAllTest() {
+        JacksonArray jacksonArray = new JacksonArray().add(0);
+        jacksonArray.addAll(Arrays.asList(1, "a", null, new BigDecimal("1.10"), Arrays.asList(2, 3)));
+        Assert.assertEquals("[0,1,\"a\",null,1.1,[2,3]]", jacksonArray.toString());
+
+        // 含有 bean 时整体转换，结果与逐个 add 一致
+        List<Object> mixed = Arrays.asList(new User().setUserId(1L).setName("lgl"), 2, new JacksonObject().put("a", 1));
+        JacksonArray bulk = new JacksonArray().addAll(mixed);
+        JacksonArray single = new JacksonArray();
+        mixed.forEach(single::add);
+        Assert.assertEquals(single.toString(), bulk.toString());
+        Assert.assertEquals("lgl", bulk.getJacksonObject(0).getString("name"));
+
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("b", 1);
+        map.put("a", "s");
+        map.put("null", null);
+        JacksonObject jacksonObject = new JacksonObject().put("a", 0).putAll(map);
+        Assert.assertEquals("{\"a\":\"s\",\"b\":1,\"null\":null}", jacksonObject.toString());
+
+        map.put("user", new User().setUserId(2L));
+        jacksonObject.putAll(map);
+        Assert.assertEquals(2L, jacksonObject.getJacksonObject("user").getLong("userId").longValue());
+        Assert.assertTrue(jacksonObject.contains("null"));
+    }
+
+    @Test
+    public void PrimitiveArrayTest() {
+        JacksonArray ints = JacksonArray.ofInts(1, 2, 3);
+        Assert.assertEquals("[1,2,3]", ints.toString());
+        Assert.assertArrayEquals(new long[]{1, 2, 3}, ints.toLongArray());
+        Assert.assertArrayEquals(new double[]{1, 2, 3}, ints.toDoubleArray(), 0);
+        Assert.assertEquals(2, ints.intValue(1));
+        Assert.assertEquals(Jackson.parseArray("[1,2,3]").getArrayNode(), ints.getArrayNode());
+
+        // 解析出来的数字数组同样使用基本类型存储，复制后互不影响
+        JacksonArray parsed = Jackson.parseObject("{\"a\":[0.5,1.5]}").getJacksonArray("a");
+        Assert.assertArrayEquals(new double[]{0.5, 1.5}, parsed.toDoubleArray(), 0);
+        JacksonArray copy = new JacksonArray().add(parsed).getJacksonArray(0);
+        parsed.set(0, 2.5);
+        Assert.assertEquals("[2.5,1.5]", parsed.toString());
+        Assert.assertEquals("[0.5,1.5]", copy.toString());
+
+        // 放入其他类型后与普通数组一致
+        JacksonArray longs = JacksonArray.ofLongs(3000000000L, 1L).add("2").add(5);
+        Assert.assertEquals("[3000000000,1,\"2\",5]", longs.toString());
+        Assert.assertArrayEquals(new long[]{3000000000L, 1, 2, 5}, longs.toLongArray());
+        Assert.assertArrayEquals(new int[]{1, 2}, Jackson.parseArray("[1.5,\"2\"]").toIntArray());
+    }
+
+    @Test
+    public void PrimitiveArrayOptOutTest() throws IOException {
+        ObjectMapper primitive = new ObjectMapper().setNodeFactory(JacksonNodeFactory.of(false));
+        ObjectMapper nodes = new ObjectMapper().setNodeFactory(JacksonNodeFactory.of(false, false));
+        Assert.assertSame(JacksonNodeFactory.of(true), JacksonNodeFactory.of(true, true));
+
+        // int 与 double 混合时不做类型提升，节点与输出和 ArrayNode 一致
+        String json = "{\"point\":[120,30.5],\"ids\":[1,2,3]}";
+        JsonNode mixed = primitive.readTree(json);
+        Assert.assertEquals(json, mixed.toString());
+        Assert.assertTrue(mixed.get("point").get(0).isInt());
+        Assert.assertTrue(mixed.get("point").get(1).isDouble());
+        Assert.assertTrue(mixed.get("ids") instanceof JacksonArrayNode);
+
+        // 关闭后所有数组都是 ArrayNode
+        JsonNode plain = nodes.readTree(json);
+        Assert.assertEquals(ArrayNode.class, plain.get("ids").getClass());
+        Assert.assertEquals(ArrayNode.class, nodes.getNodeFactory().arrayNode(4).getClass());
+        Assert.assertEquals(mixed, plain);
+        Assert.assertEquals(json, plain.toString());
+    }
+
+    @Test
+    public void CompactObjectNodeTest() throws IOException {
+        ObjectMapper compact = new ObjectMapper().setNodeFactory(JacksonNodeFactory.of(true));
+        ObjectMapper plain = new ObjectMapper();
+        StringBuilder json = new StringBuilder("{\"z\":{\"a\":[1,2]},\"y\":null");
+        for (int i = 0; i < 40; i++) {
+            json.append(",\"k").append(i).append("\":").append(i);
+        }
+        json.append('}');
+        JsonNode node = compact.readTree(json.toString());
+        Assert.assertEquals(plain.readTree(json.toString()), node);
+        Assert.assertEquals(node.toString(), plain.readTree(json.toString()).toString());
+
+        // 超过线性查找的数量后删除、修改，顺序与 LinkedHashMap 一致
+        JacksonObject jacksonObject = new JacksonObject((ObjectNode) node);
+        for (int i = 0; i < 40; i += 2) {
+            jacksonObject.remove("k" + i);
+        }
+        jacksonObject.put("k1", "x").put("new", 1);
+        Assert.assertEquals(23, jacksonObject.size());
+        Assert.assertEquals("x", jacksonObject.getString("k1"));
+        Assert.assertEquals(39, jacksonObject.intValue("k39"));
+        Assert.assertFalse(jacksonObject.contains("k38"));
+        Assert.assertTrue(jacksonObject.toString().startsWith("{\"z\":{\"a\":[1,2]},\"y\":null,\"k1\":\"x\",\"k3\":3,"));
+        Assert.assertTrue(jacksonObject.toString().endsWith("\"k39\":39,\"new\":1}"));
+        Assert.assertEquals(node, node.deepCopy());
+    }
+
+    @Test
+    public void ResetCachesTest() throws Exception {
+        ObjectWriter writer = JacksonRegistry.writer(JacksonOptions.PRETTY);
+        Assert.assertSame(writer, JacksonRegistry.writer(JacksonOptions.PRETTY));
+        Jackson.resetCaches();
+        ObjectWriter rebuilt = JacksonRegistry.writer(JacksonOptions.PRETTY);
+        Assert.assertNotSame(writer, rebuilt);
+        Assert.assertSame(rebuilt, JacksonRegistry.writer(JacksonOptions.PRETTY));
+
+        // 并发重置与读取，缓存始终来自当前的 OBJECT_MAPPER
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int n = i;
+            futures.add(executor.submit(() -> {
+                for (int j = 0; j < 2000; j++) {
+                    if (n == 0 && j % 10 == 0) {
+                        Jackson.resetCaches();
+                    }
+                    Assert.assertNotNull(JacksonRegistry.writer(JacksonOptions.PRETTY));
+                    Assert.assertNotNull(JacksonRegistry.binding(User.class).getReader());
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        Assert.assertSame(Jackson.OBJECT_MAPPER, JacksonRegistry.state().getBase());
+    }
+
+    @Test
+    public void BindingFollowsResetTest() {
+        // 静态常量中的绑定在 resetCaches 之后使用新的配置
+        JacksonBinding<User> binding = Jackson.binding(User.class);
+        String json = "{\"name\":\"a\",\"unknown\":1}";
+        Assert.assertEquals("a", binding.parse(json).getName());
+        ObjectReader reader = binding.getReader();
+        Jackson.OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, true);
+        try {
+            Jackson.resetCaches();
+            Assert.assertNotSame(reader, binding.getReader());
+            try {
+                binding.parse(json);
+                Assert.fail();
+            } catch (RuntimeException e) {
+                Assert.assertTrue(e.getMessage().startsWith("[Jackson]"));
+            }
+        } finally {
+            Jackson.OBJECT_MAPPER.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+            Jackson.resetCaches();
+        }
+        Assert.assertEquals("a", binding.parse(json).getName());
+    }
+}